@@ -0,0 +1,147 @@
+package com.mpakhomov.algorithms;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups of random keys in a sorted array: {@link BinarySearch#search(int[], int)}, the branchless lower bound,
+ * the batched lower bound, {@link EytzingerIndex} and {@link SortedIntIndex}. Small arrays fit into L1/L2, large ones don't fit into any
+ * cache, so the latter show the cost of cache misses. Half of the keys are present in the array.
+ * <p>
+ * The array is uniform, which is the best case for {@link BinarySearch#interpolationSearch(int[], int)}.
+ * {@link BinarySearch#exponentialLowerBound(int[], int, int)} gets the keys in ascending order, each lookup starts
+ * from the previous answer, as a stream of nearby lookups would; it's compared to the plain lower bound on the
+ * same stream.
+ * <p>
+ * Scores are per lookup.
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class BinarySearchBenchmark {
+
+    private static final int LOOKUPS = 1 << 12;
+
+    @Param({"1000", "1000000", "100000000"})
+    public int size;
+
+    private int[] sorted;
+    private EytzingerIndex eytzinger;
+    private SortedIntIndex sTree;
+    private int[] keys;
+    private int[] ascendingKeys;
+    private int[] result;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        // even numbers, so odd keys are misses
+        sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = 2 * i;
+        }
+        eytzinger = new EytzingerIndex(sorted);
+        sTree = SortedIntIndex.parallelBuild(sorted);
+        keys = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            keys[i] = random.nextInt(2 * size);
+        }
+        result = new int[LOOKUPS];
+        ascendingKeys = keys.clone();
+        Arrays.sort(ascendingKeys);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int search() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += BinarySearch.search(sorted, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int branchlessLowerBound() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += BinarySearch.branchlessLowerBound(sorted, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int[] batchedLowerBounds() {
+        BinarySearch.lowerBounds(sorted, keys, result);
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int eytzingerLowerBound() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += eytzinger.lowerBound(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int[] eytzingerBatchedLowerBounds() {
+        eytzinger.lowerBounds(keys, result);
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int sortedIntIndexLowerBound() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += sTree.lowerBound(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int interpolationSearch() {
+        int sum = 0;
+        for (int key : keys) {
+            sum += BinarySearch.interpolationSearch(sorted, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int ascendingLowerBound() {
+        int sum = 0;
+        for (int key : ascendingKeys) {
+            sum += BinarySearch.lowerBound(sorted, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int ascendingExponentialLowerBound() {
+        int sum = 0;
+        int hint = 0;
+        for (int key : ascendingKeys) {
+            hint = BinarySearch.exponentialLowerBound(sorted, hint, key);
+            sum += hint;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,60 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting of uniformly distributed doubles: {@link BucketSort}, {@link RadixSort#sort(double[])} and
+ * {@link Arrays#sort(double[])} as a baseline
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class BucketSortBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private final BucketSort bucketSort = new BucketSort();
+    private double[] input;
+    private double[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        input = new double[size];
+        for (int i = 0; i < size; i++) {
+            input[i] = random.nextDouble();
+        }
+        work = new double[size];
+    }
+
+    @Benchmark
+    public double[] bucketSort() {
+        System.arraycopy(input, 0, work, 0, size);
+        bucketSort.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public double[] radixSort() {
+        System.arraycopy(input, 0, work, 0, size);
+        RadixSort.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public double[] jdkArraysSort() {
+        System.arraycopy(input, 0, work, 0, size);
+        Arrays.sort(work);
+        return work;
+    }
+}
@@ -0,0 +1,91 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Shapes of input data used by the sorting benchmarks. All generators produce non-negative integers, because
+ * {@link LSDSortFor32BitIntegers} treats the highest byte as unsigned and would put negative numbers after
+ * the positive ones.
+ *
+ * @author mpakhomov
+ */
+public enum InputDistribution {
+
+    /** uniformly distributed values in [0, Integer.MAX_VALUE) */
+    RANDOM {
+        @Override
+        int[] generate(int n, Random random) {
+            return random.ints(n, 0, Integer.MAX_VALUE).toArray();
+        }
+    },
+
+    /** random values in ascending order */
+    SORTED {
+        @Override
+        int[] generate(int n, Random random) {
+            int[] a = RANDOM.generate(n, random);
+            Arrays.sort(a);
+            return a;
+        }
+    },
+
+    /** sorted values with 1% of random elements swapped, e.g. time-ordered event ids */
+    NEARLY_SORTED {
+        @Override
+        int[] generate(int n, Random random) {
+            int[] a = SORTED.generate(n, random);
+            for (int k = 0; k < n / 100; k++) {
+                int i = random.nextInt(n);
+                int j = random.nextInt(n);
+                int tmp = a[i];
+                a[i] = a[j];
+                a[j] = tmp;
+            }
+            return a;
+        }
+    },
+
+    /** random values in descending order */
+    REVERSED {
+        @Override
+        int[] generate(int n, Random random) {
+            int[] a = SORTED.generate(n, random);
+            for (int i = 0, j = n - 1; i < j; i++, j--) {
+                int tmp = a[i];
+                a[i] = a[j];
+                a[j] = tmp;
+            }
+            return a;
+        }
+    },
+
+    /** lots of duplicates: only 16 distinct values */
+    FEW_UNIQUE {
+        @Override
+        int[] generate(int n, Random random) {
+            return random.ints(n, 0, 16).toArray();
+        }
+    },
+
+    /** ascending first half, descending second half: 0, 1, 2, ... n/2 ... 2, 1, 0 */
+    ORGAN_PIPE {
+        @Override
+        int[] generate(int n, Random random) {
+            int[] a = new int[n];
+            for (int i = 0; i < n; i++) {
+                a[i] = Math.min(i, n - 1 - i);
+            }
+            return a;
+        }
+    };
+
+    /**
+     * generates an array of the given size
+     *
+     * @param n      size of the array
+     * @param random source of randomness. use a fixed seed to make runs reproducible
+     * @return a new array
+     */
+    abstract int[] generate(int n, Random random);
+}
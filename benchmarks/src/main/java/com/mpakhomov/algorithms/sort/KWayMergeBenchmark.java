@@ -0,0 +1,55 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Combining k sorted shards of 1M ints in total: {@link KWayMerge} vs concatenation and {@link Arrays#sort(int[])}.
+ * Since JDK 14 {@link Arrays#sort(int[])} detects the runs and merges them pairwise, which is hard to beat when
+ * everything is in memory anyway. The point of the k-way merge is streaming with O(k) extra memory
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KWayMergeBenchmark {
+
+    private static final int TOTAL = 1_000_000;
+
+    @Param({"2", "16", "128"})
+    public int k;
+
+    private int[][] shards;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        shards = new int[k][];
+        for (int s = 0; s < k; s++) {
+            shards[s] = InputDistribution.RANDOM.generate(TOTAL / k, random);
+            Arrays.sort(shards[s]);
+        }
+    }
+
+    @Benchmark
+    public int[] kWayMerge() {
+        return KWayMerge.merge(shards);
+    }
+
+    @Benchmark
+    public int[] concatAndSort() {
+        int[] all = new int[TOTAL / k * k];
+        for (int s = 0, pos = 0; s < k; pos += shards[s].length, s++) {
+            System.arraycopy(shards[s], 0, all, pos, shards[s].length);
+        }
+        Arrays.sort(all);
+        return all;
+    }
+}
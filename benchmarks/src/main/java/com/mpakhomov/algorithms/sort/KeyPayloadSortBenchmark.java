@@ -0,0 +1,58 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting rows of a columnar table by an int column: radix sort of keys with an int payload and argsort vs
+ * the usual way of boxing row indices and sorting them with a {@link Comparator}
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class KeyPayloadSortBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private int[] keys;
+    private int[] workKeys;
+    private int[] workPayload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new Random(42).ints(size).toArray();
+        workKeys = new int[size];
+        workPayload = new int[size];
+    }
+
+    @Benchmark
+    public int[] radixSortWithPayload() {
+        System.arraycopy(keys, 0, workKeys, 0, size);
+        for (int i = 0; i < size; i++) workPayload[i] = i;
+        RadixSort.sort(workKeys, workPayload);
+        return workPayload;
+    }
+
+    @Benchmark
+    public int[] radixArgsort() {
+        return RadixSort.argsort(keys);
+    }
+
+    @Benchmark
+    public Integer[] boxedIndicesWithComparator() {
+        Integer[] indices = new Integer[size];
+        for (int i = 0; i < size; i++) indices[i] = i;
+        Arrays.sort(indices, Comparator.comparingInt(i -> keys[i]));
+        return indices;
+    }
+}
@@ -0,0 +1,48 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Same as {@link SortBenchmark}, but for O(n^2) algorithms. Sizes are capped at 10^4: bubble sort of 10^5 random
+ * elements already takes seconds per operation. {@link java.util.Arrays#sort(int[])} is kept as a baseline.
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QuadraticSortBenchmark {
+
+    @Param({"BUBBLE_SORT", "INSERTION_SORT", "SELECTION_SORT", "JDK_ARRAYS_SORT"})
+    public SortAlgorithm algorithm;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "FEW_UNIQUE", "ORGAN_PIPE"})
+    public InputDistribution distribution;
+
+    private Sorting sorter;
+    private int[] input;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sorter = algorithm.getSorter();
+        input = distribution.generate(size, new Random(42));
+        work = new int[size];
+    }
+
+    @Benchmark
+    public int[] sort() {
+        System.arraycopy(input, 0, work, 0, size);
+        sorter.instanceSort(work);
+        return work;
+    }
+}
@@ -0,0 +1,55 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The k smallest of 1M random ints: full sort vs {@link Selection#partialSort(int[], int)} vs a bounded heap over
+ * a stream
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SelectionBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    @Param({"10", "1000", "100000"})
+    public int k;
+
+    private int[] input;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = InputDistribution.RANDOM.generate(SIZE, new Random(42));
+        work = new int[SIZE];
+    }
+
+    @Benchmark
+    public int[] fullSort() {
+        System.arraycopy(input, 0, work, 0, SIZE);
+        Arrays.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] partialSort() {
+        System.arraycopy(input, 0, work, 0, SIZE);
+        Selection.partialSort(work, k);
+        return work;
+    }
+
+    @Benchmark
+    public int[] boundedHeap() {
+        return Selection.smallest(Arrays.stream(input), k);
+    }
+}
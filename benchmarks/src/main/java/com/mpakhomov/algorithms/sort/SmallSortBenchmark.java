@@ -0,0 +1,62 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leaf routines on small random blocks: {@link InsertionSort}, binary insertion sort and {@link SortingNetwork}.
+ * Every invocation sorts 1024 consecutive blocks of the given size
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SmallSortBenchmark {
+
+    private static final int BLOCKS = 1024;
+
+    @Param({"8", "16", "32"})
+    public int size;
+
+    private int[] input;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = InputDistribution.RANDOM.generate(size * BLOCKS, new Random(42));
+        work = new int[input.length];
+    }
+
+    @Benchmark
+    public int[] insertionSort() {
+        System.arraycopy(input, 0, work, 0, work.length);
+        for (int lo = 0; lo < work.length; lo += size) {
+            InsertionSort.sort(work, lo, lo + size);
+        }
+        return work;
+    }
+
+    @Benchmark
+    public int[] binaryInsertionSort() {
+        System.arraycopy(input, 0, work, 0, work.length);
+        for (int lo = 0; lo < work.length; lo += size) {
+            InsertionSort.binarySort(work, lo, lo + size - 1);
+        }
+        return work;
+    }
+
+    @Benchmark
+    public int[] sortingNetwork() {
+        System.arraycopy(input, 0, work, 0, work.length);
+        for (int lo = 0; lo < work.length; lo += size) {
+            SortingNetwork.sort(work, lo, lo + size - 1);
+        }
+        return work;
+    }
+}
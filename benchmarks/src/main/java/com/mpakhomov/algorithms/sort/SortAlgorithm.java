@@ -0,0 +1,39 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * All {@link Sorting} implementations under benchmark, plus {@link Arrays#sort(int[])} as a baseline
+ *
+ * @author mpakhomov
+ */
+public enum SortAlgorithm {
+    BUBBLE_SORT(new BubbleSort()),
+    INSERTION_SORT(new InsertionSort()),
+    SELECTION_SORT(new SelectionSort()),
+    MERGE_SORT(new MergeSort()),
+    MERGE_SORT_OPTIMIZED(new MergeSort(true)),
+    PARALLEL_MERGE_SORT(new ParallelMergeSort()),
+    TIM_SORT(new TimSort()),
+    QUICK_SORT(new QuickSort()),
+    COUNTING_SORT(new CountingSort()),
+    PARALLEL_COUNTING_SORT(new ParallelCountingSort()),
+    ADAPTIVE_SORT(new AdaptiveSort()),
+    PARALLEL_QUICK_SORT(new ParallelQuickSort()),
+    LSD_RADIX_SORT(new LSDSortFor32BitIntegers()),
+    RADIX_SORT(new RadixSort()),
+    PARALLEL_LSD_RADIX_SORT(new ParallelRadixSort()),
+    PARALLEL_MSD_RADIX_SORT(new ParallelRadixSort(ForkJoinPool.commonPool(), ParallelRadixSort.Mode.MSD)),
+    JDK_ARRAYS_SORT(Arrays::sort);
+
+    private final Sorting sorter;
+
+    SortAlgorithm(Sorting sorter) {
+        this.sorter = sorter;
+    }
+
+    public Sorting getSorter() {
+        return sorter;
+    }
+}
@@ -0,0 +1,58 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares O(n log n) and linear {@link Sorting} implementations against {@link java.util.Arrays#sort(int[])}
+ * on inputs from 10 to 10^8 elements. Quadratic algorithms are covered by {@link QuadraticSortBenchmark}, they
+ * would never finish on the large sizes.
+ * <p>
+ * Throughput and percentile latency are reported by the benchmark modes. Allocation rate is reported by the GC
+ * profiler: {@code java -jar benchmarks/target/benchmarks.jar SortBenchmark -prof gc}
+ * <p>
+ * Each invocation sorts a fresh copy of the input, so the cost of {@link System#arraycopy} is included. It is the
+ * same for all the algorithms, including the baseline.
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class SortBenchmark {
+
+    @Param({"MERGE_SORT", "MERGE_SORT_OPTIMIZED", "PARALLEL_MERGE_SORT", "TIM_SORT", "QUICK_SORT", "PARALLEL_QUICK_SORT",
+            "LSD_RADIX_SORT", "RADIX_SORT", "PARALLEL_LSD_RADIX_SORT", "PARALLEL_MSD_RADIX_SORT", "COUNTING_SORT",
+            "PARALLEL_COUNTING_SORT",
+            "ADAPTIVE_SORT", "JDK_ARRAYS_SORT"})
+    public SortAlgorithm algorithm;
+
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"RANDOM", "SORTED", "NEARLY_SORTED", "REVERSED", "FEW_UNIQUE", "ORGAN_PIPE"})
+    public InputDistribution distribution;
+
+    private Sorting sorter;
+    private int[] input;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sorter = algorithm.getSorter();
+        input = distribution.generate(size, new Random(42));
+        work = new int[size];
+    }
+
+    @Benchmark
+    public int[] sort() {
+        System.arraycopy(input, 0, work, 0, size);
+        sorter.instanceSort(work);
+        return work;
+    }
+}
@@ -0,0 +1,80 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stable sorting of records by an int key on duplicate-heavy input: {@link MergeSort} with a comparator,
+ * {@link Arrays#sort(Object[], Comparator)} (TimSort) and {@link RadixSort#sort(int[], Object[])} of the keys with
+ * the records as the payload
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class StableSortBenchmark {
+
+    private static final Comparator<Row> BY_KEY = Comparator.comparingInt(r -> r.key);
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    /** number of distinct keys */
+    @Param({"16", "1000"})
+    public int distinct;
+
+    private Row[] rows;
+    private Row[] work;
+    private int[] keys;
+
+    static final class Row {
+        final int key;
+        final long payload;
+
+        Row(int key, long payload) {
+            this.key = key;
+            this.payload = payload;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new Row[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = new Row(random.nextInt(distinct), i);
+        }
+        work = new Row[size];
+        keys = new int[size];
+    }
+
+    @Benchmark
+    public Row[] mergeSort() {
+        System.arraycopy(rows, 0, work, 0, size);
+        MergeSort.sort(work, BY_KEY);
+        return work;
+    }
+
+    @Benchmark
+    public Row[] jdkArraysSort() {
+        System.arraycopy(rows, 0, work, 0, size);
+        Arrays.sort(work, BY_KEY);
+        return work;
+    }
+
+    @Benchmark
+    public Row[] radixKeyPayload() {
+        System.arraycopy(rows, 0, work, 0, size);
+        for (int i = 0; i < size; i++) keys[i] = work[i].key;
+        RadixSort.sort(keys, work);
+        return work;
+    }
+}
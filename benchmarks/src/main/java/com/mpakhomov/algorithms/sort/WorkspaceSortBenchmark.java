@@ -0,0 +1,55 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sorting lots of small arrays: allocating scratch space on every call vs reusing a {@link SortWorkspace}.
+ * Run with the GC profiler, with a workspace gc.alloc.rate.norm should be close to 0 B/op:
+ * {@code java -jar benchmarks/target/benchmarks.jar WorkspaceSortBenchmark -prof gc}
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorkspaceSortBenchmark {
+
+    @Param({"MERGE_SORT", "MERGE_SORT_OPTIMIZED", "LSD_RADIX_SORT", "RADIX_SORT"})
+    public SortAlgorithm algorithm;
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private Sorting sorter;
+    private SortWorkspace workspace;
+    private int[] input;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sorter = algorithm.getSorter();
+        workspace = new SortWorkspace();
+        input = InputDistribution.RANDOM.generate(size, new Random(42));
+        work = new int[size];
+    }
+
+    @Benchmark
+    public int[] allocating() {
+        System.arraycopy(input, 0, work, 0, size);
+        sorter.instanceSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] withWorkspace() {
+        System.arraycopy(input, 0, work, 0, size);
+        sorter.instanceSort(work, workspace);
+        return work;
+    }
+}
@@ -0,0 +1,60 @@
+package com.mpakhomov.queue;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 10M priority queue operations: 5M pushes of random keys followed by 5M pops. {@link IntDaryHeap} with
+ * different arities against {@link PriorityQueue} of boxed integers
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class DaryHeapBenchmark {
+
+    private static final int OPERATIONS = 10_000_000;
+
+    @Param({"2", "4", "8", "16"})
+    public int arity;
+
+    private int[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new Random(42).ints(OPERATIONS / 2).toArray();
+    }
+
+    @Benchmark
+    public long daryHeap() {
+        IntDaryHeap heap = new IntDaryHeap(arity, keys.length);
+        for (int key : keys) {
+            heap.push(key);
+        }
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long priorityQueue() {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(keys.length);
+        for (int key : keys) {
+            queue.add(key);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+}
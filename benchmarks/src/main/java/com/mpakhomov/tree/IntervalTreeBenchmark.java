@@ -0,0 +1,104 @@
+package com.mpakhomov.tree;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overlap queries over 1M random intervals: {@link IntervalTree} against a linear scan of arrays of endpoints.
+ * Intervals are up to 1000 long and start anywhere in [0, 10^9), queries are windows of up to 10^5, so a query
+ * overlaps about a hundred intervals. The time is per query
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class IntervalTreeBenchmark {
+
+    private static final int SIZE = 1_000_000;
+    private static final int QUERIES = 1000;
+    private static final int RANGE = 1_000_000_000;
+
+    private int[] lows;
+    private int[] highs;
+    private IntervalTree<Integer> tree;
+    private Integer[] queryLows;
+    private Integer[] queryHighs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        lows = new int[SIZE];
+        highs = new int[SIZE];
+        tree = new IntervalTree<>();
+        for (int i = 0; i < SIZE; i++) {
+            lows[i] = random.nextInt(RANGE);
+            highs[i] = lows[i] + random.nextInt(1000);
+            tree.insert(lows[i], highs[i]);
+        }
+        queryLows = new Integer[QUERIES];
+        queryHighs = new Integer[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queryLows[i] = random.nextInt(RANGE);
+            queryHighs[i] = queryLows[i] + random.nextInt(100_000);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int treeAnyOverlap() {
+        int found = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            found += tree.anyOverlap(queryLows[q], queryHighs[q]) != null ? 1 : 0;
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int scanAnyOverlap() {
+        int found = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            int a = queryLows[q];
+            int b = queryHighs[q];
+            for (int i = 0; i < SIZE; i++) {
+                if (lows[i] <= b && highs[i] >= a) {
+                    found++;
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int treeAllOverlaps() {
+        int found = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            found += tree.allOverlaps(queryLows[q], queryHighs[q]).size();
+        }
+        return found;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUERIES)
+    public int scanAllOverlaps() {
+        int found = 0;
+        for (int q = 0; q < QUERIES; q++) {
+            int a = queryLows[q];
+            int b = queryHighs[q];
+            for (int i = 0; i < SIZE; i++) {
+                if (lows[i] <= b && highs[i] >= a) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,77 @@
+package com.mpakhomov.tree;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RedBlackTreeMap} against {@link TreeMap}: put, get and remove of random keys, the time is per operation.
+ * The keys are boxed beforehand, so with {@code -prof gc} the normalized allocation rate of {@link #put()}
+ * (gc.alloc.rate.norm) is the memory per entry
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class RedBlackTreeMapBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    @Param({"RED_BLACK_TREE_MAP", "TREE_MAP"})
+    public String impl;
+
+    private Integer[] keys;
+    private NavigableMap<Integer, Integer> map;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new Random(42).ints(SIZE).boxed().toArray(Integer[]::new);
+        map = newMap();
+        for (Integer key : keys) {
+            map.put(key, key);
+        }
+    }
+
+    private NavigableMap<Integer, Integer> newMap() {
+        return "TREE_MAP".equals(impl) ? new TreeMap<>() : new RedBlackTreeMap<>();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public NavigableMap<Integer, Integer> put() {
+        NavigableMap<Integer, Integer> m = newMap();
+        for (Integer key : keys) {
+            m.put(key, key);
+        }
+        return m;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long get() {
+        long sum = 0;
+        for (Integer key : keys) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+
+    /**
+     * every key is removed and put back, so the size of the map stays the same
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public NavigableMap<Integer, Integer> removeAndPut() {
+        for (Integer key : keys) {
+            map.put(key, map.remove(key));
+        }
+        return map;
+    }
+}
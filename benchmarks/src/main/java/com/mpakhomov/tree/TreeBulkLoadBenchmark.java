@@ -0,0 +1,51 @@
+package com.mpakhomov.tree;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Building a {@link RedBlackTree} of 1M sorted keys: one {@link RedBlackTree#put(Comparable)} per key against
+ * {@link RedBlackTree#fromSorted(java.util.Iterator, int)} and {@link RedBlackTree#parallelFromSorted(List)}
+ *
+ * @author mpakhomov
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class TreeBulkLoadBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    private List<Integer> keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = Arrays.asList(IntStream.range(0, SIZE).map(i -> 2 * i).boxed().toArray(Integer[]::new));
+    }
+
+    @Benchmark
+    public RedBlackTree<Integer> put() {
+        RedBlackTree<Integer> tree = new RedBlackTree<>();
+        for (Integer key : keys) {
+            tree.put(key);
+        }
+        return tree;
+    }
+
+    @Benchmark
+    public RedBlackTree<Integer> fromSorted() {
+        return RedBlackTree.fromSorted(keys.iterator(), keys.size());
+    }
+
+    @Benchmark
+    public RedBlackTree<Integer> parallelFromSorted() {
+        return RedBlackTree.parallelFromSorted(keys);
+    }
+}
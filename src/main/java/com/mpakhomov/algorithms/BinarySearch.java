@@ -1,9 +1,20 @@
 package com.mpakhomov.algorithms;
 
+import java.util.Comparator;
+import java.util.List;
+
 /**
  * Created by mike on 11/12/16.
+ * <p>
+ * Besides the exact match search, there are lower and upper bounds, equal ranges and counts of keys within a range
+ * for int, long, double, object arrays and lists, whole or sliced. Slices follow the conventions of
+ * {@link java.util.Arrays}: fromIndex is inclusive, toIndex is exclusive, results are indexes in the whole array.
  */
 public class BinarySearch {
+
+    /** number of keys {@link #lowerBounds(int[], int[], int[])} advances together */
+    static final int BATCH = 32;
+
     /**
      * binary search algorithm. running time O(log N)
      * @param a sorted array
@@ -15,7 +26,7 @@ public class BinarySearch {
         int lo = 0;
         int hi = a.length - 1;
         while (lo <= hi) {
-            int mid = (lo + hi) / 2;
+            int mid = (lo + hi) >>> 1;
             if (key < a[mid]) {
                 hi = mid - 1;
             }  else if (key > a[mid]) {
@@ -26,4 +37,738 @@ public class BinarySearch {
         }
         return -1;
     }
+
+    /**
+     * branchless binary search: the index of the first element that is not less than the key.
+     * <p>
+     * The range is halved every step no matter what the comparison says, only the base moves, so the loop runs
+     * exactly ceil(log2 n) times and the JIT turns the comparison into a conditional move: there is no branch to
+     * mispredict. The price is that there is no early exit on an exact match. {@link #lowerBound(int[], int)} and
+     * the other lower and upper bounds of primitive arrays are searched the same way.
+     *
+     * @param a   sorted array
+     * @param key key to search for
+     * @return index in [0, a.length]: a.length if all the elements are less than the key
+     */
+    public static int branchlessLowerBound(int[] a, int key) {
+        return lowerBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * batched {@link #branchlessLowerBound(int[], int)}: result[i] = branchlessLowerBound(a, keys[i]).
+     * <p>
+     * A single search waits for a cache miss on every level of a large array. Here up to {@link #BATCH} searches
+     * go down the levels together, one level of all of them at a time, so their loads are independent and the CPU
+     * keeps many cache misses in flight at once.
+     *
+     * @param a      sorted array
+     * @param keys   keys to search for, in any order
+     * @param result receives the indexes, at least as long as keys
+     * @throws IllegalArgumentException if result is shorter than keys
+     */
+    public static void lowerBounds(int[] a, int[] keys, int[] result) {
+        if (result.length < keys.length) {
+            throw new IllegalArgumentException("result is shorter than keys");
+        }
+        int n = a.length;
+        for (int from = 0; from < keys.length; from += BATCH) {
+            int to = Math.min(from + BATCH, keys.length);
+            if (n == 0) {
+                for (int i = from; i < to; i++) result[i] = 0;
+                continue;
+            }
+            // every search takes the same sequence of halves, so they can share the loop
+            for (int i = from; i < to; i++) result[i] = 0;
+            for (int len = n; len > 1; ) {
+                int half = len >>> 1;
+                for (int i = from; i < to; i++) {
+                    int base = result[i];
+                    result[i] = a[base + half - 1] < keys[i] ? base + half : base;
+                }
+                len -= half;
+            }
+            for (int i = from; i < to; i++) {
+                int base = result[i];
+                result[i] = a[base] < keys[i] ? base + 1 : base;
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- searches that use more than the order
+
+    /**
+     * interpolation search: the next probe is where the key would be if the values grew linearly between the ends
+     * of the range. on uniformly distributed data it takes O(log log n) probes.
+     * <p>
+     * On skewed data interpolation can crawl, e.g. an exponential sequence makes it move by a single element per
+     * probe. So every interpolation probe is checked: if it didn't cut the range at least in half, the next probe
+     * is the middle of the range. At most every other probe is an interpolation, the worst case stays O(log n).
+     *
+     * @param a   sorted array
+     * @param key key to search for
+     * @return an index of the found element, when the array contains given key. otherwise returns -1
+     */
+    public static int interpolationSearch(int[] a, int key) {
+        int lo = 0;
+        int hi = a.length - 1;
+        boolean bisect = false;
+        while (lo <= hi) {
+            int low = a[lo];
+            int high = a[hi];
+            if (key < low || key > high) return -1;
+            if (low == high) return lo;
+            int width = hi - lo;
+            int mid;
+            if (bisect) {
+                mid = (lo + hi) >>> 1;
+            } else {
+                // doubles, because (key - low) * width doesn't fit into a long
+                mid = lo + (int) ((double) ((long) key - low) / ((long) high - low) * width);
+            }
+            int v = a[mid];
+            if (v < key) {
+                lo = mid + 1;
+            } else if (v > key) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+            bisect = !bisect && hi - lo > width >>> 1;
+        }
+        return -1;
+    }
+
+    /**
+     * exponential (galloping) search from a hint: probes hint +- 1, 2, 4, 8... until the key is passed, then
+     * binary search finishes inside the last step. it takes O(log d) probes, where d is the distance from the hint
+     * to the answer, so a stream of lookups that are close to each other, each starting at the previous answer,
+     * takes O(1) probes per lookup.
+     *
+     * @param a    sorted array
+     * @param hint index to start from, clamped to [0, a.length - 1]
+     * @param key  key to search for
+     * @return index of the first element that is not less than the key, a.length if there is none
+     */
+    public static int exponentialLowerBound(int[] a, int hint, int key) {
+        int n = a.length;
+        if (n == 0) return 0;
+        hint = Math.max(0, Math.min(hint, n - 1));
+        // steps are longs, doubling them near 2^30 must not overflow
+        long prev = 0;
+        long step = 1;
+        if (a[hint] < key) {
+            // a[hint + prev] < key
+            while (hint + step < n && a[(int) (hint + step)] < key) {
+                prev = step;
+                step <<= 1;
+            }
+            return lowerBound0(a, hint + (int) prev + 1, (int) Math.min(hint + step, n), key);
+        } else {
+            // a[hint - prev] >= key
+            while (hint - step >= 0 && a[(int) (hint - step)] >= key) {
+                prev = step;
+                step <<= 1;
+            }
+            return lowerBound0(a, (int) Math.max(hint - step + 1, 0), hint - (int) prev, key);
+        }
+    }
+
+    /**
+     * the same as {@link #exponentialLowerBound(int[], int, int)}, but with the contract of
+     * {@link #search(int[], int)}
+     *
+     * @param a    sorted array
+     * @param hint index to start from, clamped to [0, a.length - 1]
+     * @param key  key to search for
+     * @return index of the first element equal to the key, or -1 if there is none
+     */
+    public static int exponentialSearch(int[] a, int hint, int key) {
+        int i = exponentialLowerBound(a, hint, key);
+        return i < a.length && a[i] == key ? i : -1;
+    }
+
+    // ---------------------------------------------------------------- int[]
+
+    /**
+     * @param a   sorted array
+     * @param key key to search for
+     * @return index of the first element that is not less than the key, a.length if there is none
+     */
+    public static int lowerBound(int[] a, int key) {
+        return lowerBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * the same as {@link #lowerBound(int[], int)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @return index in [fromIndex, toIndex]
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int lowerBound(int[] a, int fromIndex, int toIndex, int key) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return lowerBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * @param a   sorted array
+     * @param key key to search for
+     * @return index of the first element that is greater than the key, a.length if there is none
+     */
+    public static int upperBound(int[] a, int key) {
+        return upperBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * the same as {@link #upperBound(int[], int)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @return index in [fromIndex, toIndex]
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int upperBound(int[] a, int fromIndex, int toIndex, int key) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return upperBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * @param a   sorted array
+     * @param key key to search for
+     * @return {lowerBound, upperBound}: the elements equal to the key are a[result[0]..result[1]-1]
+     */
+    public static int[] equalRange(int[] a, int key) {
+        return equalRange(a, 0, a.length, key);
+    }
+
+    /**
+     * the same as {@link #equalRange(int[], int)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int[] equalRange(int[] a, int fromIndex, int toIndex, int key) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int lo = lowerBound0(a, fromIndex, toIndex, key);
+        return new int[] {lo, upperBound0(a, lo, toIndex, key)};
+    }
+
+    /**
+     * @param a    sorted array
+     * @param low  the smallest key of the range, inclusive
+     * @param high the largest key of the range, inclusive
+     * @return number of elements within [low, high], 0 if low > high
+     */
+    public static int countInRange(int[] a, int low, int high) {
+        return countInRange(a, 0, a.length, low, high);
+    }
+
+    /**
+     * the same as {@link #countInRange(int[], int, int)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int countInRange(int[] a, int fromIndex, int toIndex, int low, int high) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int lo = lowerBound0(a, fromIndex, toIndex, low);
+        return Math.max(0, upperBound0(a, lo, toIndex, high) - lo);
+    }
+
+    private static int lowerBound0(int[] a, int fromIndex, int toIndex, int key) {
+        int n = toIndex - fromIndex;
+        if (n == 0) return fromIndex;
+        int base = fromIndex;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = a[base + half - 1] < key ? base + half : base;
+            n -= half;
+        }
+        return a[base] < key ? base + 1 : base;
+    }
+
+    private static int upperBound0(int[] a, int fromIndex, int toIndex, int key) {
+        int n = toIndex - fromIndex;
+        if (n == 0) return fromIndex;
+        int base = fromIndex;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = a[base + half - 1] <= key ? base + half : base;
+            n -= half;
+        }
+        return a[base] <= key ? base + 1 : base;
+    }
+
+    // ---------------------------------------------------------------- long[]
+
+    /**
+     * @param a   sorted array
+     * @param key key to search for
+     * @return index of the first element that is not less than the key, a.length if there is none
+     */
+    public static int lowerBound(long[] a, long key) {
+        return lowerBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * the same as {@link #lowerBound(long[], long)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @return index in [fromIndex, toIndex]
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int lowerBound(long[] a, int fromIndex, int toIndex, long key) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return lowerBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * @param a   sorted array
+     * @param key key to search for
+     * @return index of the first element that is greater than the key, a.length if there is none
+     */
+    public static int upperBound(long[] a, long key) {
+        return upperBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * the same as {@link #upperBound(long[], long)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @return index in [fromIndex, toIndex]
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int upperBound(long[] a, int fromIndex, int toIndex, long key) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return upperBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * @param a   sorted array
+     * @param key key to search for
+     * @return {lowerBound, upperBound}: the elements equal to the key are a[result[0]..result[1]-1]
+     */
+    public static int[] equalRange(long[] a, long key) {
+        return equalRange(a, 0, a.length, key);
+    }
+
+    /**
+     * the same as {@link #equalRange(long[], long)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int[] equalRange(long[] a, int fromIndex, int toIndex, long key) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int lo = lowerBound0(a, fromIndex, toIndex, key);
+        return new int[] {lo, upperBound0(a, lo, toIndex, key)};
+    }
+
+    /**
+     * @param a    sorted array
+     * @param low  the smallest key of the range, inclusive
+     * @param high the largest key of the range, inclusive
+     * @return number of elements within [low, high], 0 if low > high
+     */
+    public static int countInRange(long[] a, long low, long high) {
+        return countInRange(a, 0, a.length, low, high);
+    }
+
+    /**
+     * the same as {@link #countInRange(long[], long, long)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int countInRange(long[] a, int fromIndex, int toIndex, long low, long high) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int lo = lowerBound0(a, fromIndex, toIndex, low);
+        return Math.max(0, upperBound0(a, lo, toIndex, high) - lo);
+    }
+
+    private static int lowerBound0(long[] a, int fromIndex, int toIndex, long key) {
+        int n = toIndex - fromIndex;
+        if (n == 0) return fromIndex;
+        int base = fromIndex;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = a[base + half - 1] < key ? base + half : base;
+            n -= half;
+        }
+        return a[base] < key ? base + 1 : base;
+    }
+
+    private static int upperBound0(long[] a, int fromIndex, int toIndex, long key) {
+        int n = toIndex - fromIndex;
+        if (n == 0) return fromIndex;
+        int base = fromIndex;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = a[base + half - 1] <= key ? base + half : base;
+            n -= half;
+        }
+        return a[base] <= key ? base + 1 : base;
+    }
+
+    // ---------------------------------------------------------------- double[]
+
+    /**
+     * doubles are compared the way {@link java.util.Arrays#sort(double[])} orders them: -0.0 < 0.0 and NaN is
+     * greater than everything else, as {@link Double#compare(double, double)} does
+     *
+     * @param a   sorted array
+     * @param key key to search for
+     * @return index of the first element that is not less than the key, a.length if there is none
+     */
+    public static int lowerBound(double[] a, double key) {
+        return lowerBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * the same as {@link #lowerBound(double[], double)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @return index in [fromIndex, toIndex]
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int lowerBound(double[] a, int fromIndex, int toIndex, double key) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return lowerBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * @param a   sorted array
+     * @param key key to search for
+     * @return index of the first element that is greater than the key, a.length if there is none
+     */
+    public static int upperBound(double[] a, double key) {
+        return upperBound0(a, 0, a.length, key);
+    }
+
+    /**
+     * the same as {@link #upperBound(double[], double)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @return index in [fromIndex, toIndex]
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int upperBound(double[] a, int fromIndex, int toIndex, double key) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return upperBound0(a, fromIndex, toIndex, key);
+    }
+
+    /**
+     * @param a   sorted array
+     * @param key key to search for
+     * @return {lowerBound, upperBound}: the elements equal to the key are a[result[0]..result[1]-1]
+     */
+    public static int[] equalRange(double[] a, double key) {
+        return equalRange(a, 0, a.length, key);
+    }
+
+    /**
+     * the same as {@link #equalRange(double[], double)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int[] equalRange(double[] a, int fromIndex, int toIndex, double key) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int lo = lowerBound0(a, fromIndex, toIndex, key);
+        return new int[] {lo, upperBound0(a, lo, toIndex, key)};
+    }
+
+    /**
+     * @param a    sorted array
+     * @param low  the smallest key of the range, inclusive
+     * @param high the largest key of the range, inclusive
+     * @return number of elements within [low, high], 0 if low > high
+     */
+    public static int countInRange(double[] a, double low, double high) {
+        return countInRange(a, 0, a.length, low, high);
+    }
+
+    /**
+     * the same as {@link #countInRange(double[], double, double)} for the slice a[fromIndex..toIndex-1]
+     *
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static int countInRange(double[] a, int fromIndex, int toIndex, double low, double high) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int lo = lowerBound0(a, fromIndex, toIndex, low);
+        return Math.max(0, upperBound0(a, lo, toIndex, high) - lo);
+    }
+
+    private static int lowerBound0(double[] a, int fromIndex, int toIndex, double key) {
+        int n = toIndex - fromIndex;
+        if (n == 0) return fromIndex;
+        int base = fromIndex;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = Double.compare(a[base + half - 1], key) < 0 ? base + half : base;
+            n -= half;
+        }
+        return Double.compare(a[base], key) < 0 ? base + 1 : base;
+    }
+
+    private static int upperBound0(double[] a, int fromIndex, int toIndex, double key) {
+        int n = toIndex - fromIndex;
+        if (n == 0) return fromIndex;
+        int base = fromIndex;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = Double.compare(a[base + half - 1], key) <= 0 ? base + half : base;
+            n -= half;
+        }
+        return Double.compare(a[base], key) <= 0 ? base + 1 : base;
+    }
+
+    // ---------------------------------------------------------------- T[] with a Comparator
+
+    /**
+     * @param a   array sorted according to the comparator
+     * @param key key to search for
+     * @param c   comparator the array is sorted by
+     * @return index of the first element that is not less than the key, a.length if there is none
+     */
+    public static <T> int lowerBound(T[] a, T key, Comparator<? super T> c) {
+        return lowerBound0(a, 0, a.length, key, c);
+    }
+
+    /**
+     * the same as {@link #lowerBound(Object[], Object, Comparator)} for a[fromIndex..toIndex-1]
+     *
+     * @return index in [fromIndex, toIndex]
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> int lowerBound(T[] a, int fromIndex, int toIndex, T key, Comparator<? super T> c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return lowerBound0(a, fromIndex, toIndex, key, c);
+    }
+
+    /**
+     * @param a   array sorted according to the comparator
+     * @param key key to search for
+     * @param c   comparator the array is sorted by
+     * @return index of the first element that is greater than the key, a.length if there is none
+     */
+    public static <T> int upperBound(T[] a, T key, Comparator<? super T> c) {
+        return upperBound0(a, 0, a.length, key, c);
+    }
+
+    /**
+     * the same as {@link #upperBound(Object[], Object, Comparator)} for a[fromIndex..toIndex-1]
+     *
+     * @return index in [fromIndex, toIndex]
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> int upperBound(T[] a, int fromIndex, int toIndex, T key, Comparator<? super T> c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        return upperBound0(a, fromIndex, toIndex, key, c);
+    }
+
+    /**
+     * @param a   array sorted according to the comparator
+     * @param key key to search for
+     * @param c   comparator the array is sorted by
+     * @return {lowerBound, upperBound}: the elements equal to the key are at result[0]..result[1]-1
+     */
+    public static <T> int[] equalRange(T[] a, T key, Comparator<? super T> c) {
+        return equalRange(a, 0, a.length, key, c);
+    }
+
+    /**
+     * the same as {@link #equalRange(Object[], Object, Comparator)} for a[fromIndex..toIndex-1]
+     *
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> int[] equalRange(T[] a, int fromIndex, int toIndex, T key, Comparator<? super T> c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int lo = lowerBound0(a, fromIndex, toIndex, key, c);
+        return new int[] {lo, upperBound0(a, lo, toIndex, key, c)};
+    }
+
+    /**
+     * @param a    array sorted according to the comparator
+     * @param low  the smallest key of the range, inclusive
+     * @param high the largest key of the range, inclusive
+     * @param c    comparator the array is sorted by
+     * @return number of elements within [low, high], 0 if low > high
+     */
+    public static <T> int countInRange(T[] a, T low, T high, Comparator<? super T> c) {
+        return countInRange(a, 0, a.length, low, high, c);
+    }
+
+    /**
+     * the same as {@link #countInRange(Object[], Object, Object, Comparator)} for a[fromIndex..toIndex-1]
+     *
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    public static <T> int countInRange(T[] a, int fromIndex, int toIndex, T low, T high, Comparator<? super T> c) {
+        rangeCheck(a.length, fromIndex, toIndex);
+        int lo = lowerBound0(a, fromIndex, toIndex, low, c);
+        return Math.max(0, upperBound0(a, lo, toIndex, high, c) - lo);
+    }
+
+    private static <T> int lowerBound0(T[] a, int fromIndex, int toIndex, T key, Comparator<? super T> c) {
+        int lo = fromIndex;
+        int hi = toIndex;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c.compare(a[mid], key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static <T> int upperBound0(T[] a, int fromIndex, int toIndex, T key, Comparator<? super T> c) {
+        int lo = fromIndex;
+        int hi = toIndex;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c.compare(a[mid], key) <= 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // ---------------------------------------------------------------- List<T> with a Comparator
+
+    /**
+     * the list should support fast random access, like {@link java.util.ArrayList}: every probe is a get(i)
+     *
+     * @param a   list sorted according to the comparator
+     * @param key key to search for
+     * @param c   comparator the list is sorted by
+     * @return index of the first element that is not less than the key, a.size() if there is none
+     */
+    public static <T> int lowerBound(List<? extends T> a, T key, Comparator<? super T> c) {
+        return lowerBound0(a, 0, a.size(), key, c);
+    }
+
+    /**
+     * the same as {@link #lowerBound(List, Object, Comparator)} for the sublist [fromIndex, toIndex)
+     *
+     * @return index in [fromIndex, toIndex]
+     * @throws IllegalArgumentException  if fromIndex > toIndex
+     * @throws IndexOutOfBoundsException if fromIndex < 0 or toIndex > a.size()
+     */
+    public static <T> int lowerBound(List<? extends T> a, int fromIndex, int toIndex, T key, Comparator<? super T> c) {
+        listRangeCheck(a.size(), fromIndex, toIndex);
+        return lowerBound0(a, fromIndex, toIndex, key, c);
+    }
+
+    /**
+     * @param a   list sorted according to the comparator
+     * @param key key to search for
+     * @param c   comparator the list is sorted by
+     * @return index of the first element that is greater than the key, a.size() if there is none
+     */
+    public static <T> int upperBound(List<? extends T> a, T key, Comparator<? super T> c) {
+        return upperBound0(a, 0, a.size(), key, c);
+    }
+
+    /**
+     * the same as {@link #upperBound(List, Object, Comparator)} for the sublist [fromIndex, toIndex)
+     *
+     * @return index in [fromIndex, toIndex]
+     * @throws IllegalArgumentException  if fromIndex > toIndex
+     * @throws IndexOutOfBoundsException if fromIndex < 0 or toIndex > a.size()
+     */
+    public static <T> int upperBound(List<? extends T> a, int fromIndex, int toIndex, T key, Comparator<? super T> c) {
+        listRangeCheck(a.size(), fromIndex, toIndex);
+        return upperBound0(a, fromIndex, toIndex, key, c);
+    }
+
+    /**
+     * @param a   list sorted according to the comparator
+     * @param key key to search for
+     * @param c   comparator the list is sorted by
+     * @return {lowerBound, upperBound}: the elements equal to the key are at result[0]..result[1]-1
+     */
+    public static <T> int[] equalRange(List<? extends T> a, T key, Comparator<? super T> c) {
+        return equalRange(a, 0, a.size(), key, c);
+    }
+
+    /**
+     * the same as {@link #equalRange(List, Object, Comparator)} for the sublist [fromIndex, toIndex)
+     *
+     * @throws IllegalArgumentException  if fromIndex > toIndex
+     * @throws IndexOutOfBoundsException if fromIndex < 0 or toIndex > a.size()
+     */
+    public static <T> int[] equalRange(List<? extends T> a, int fromIndex, int toIndex, T key, Comparator<? super T> c) {
+        listRangeCheck(a.size(), fromIndex, toIndex);
+        int lo = lowerBound0(a, fromIndex, toIndex, key, c);
+        return new int[] {lo, upperBound0(a, lo, toIndex, key, c)};
+    }
+
+    /**
+     * @param a    list sorted according to the comparator
+     * @param low  the smallest key of the range, inclusive
+     * @param high the largest key of the range, inclusive
+     * @param c    comparator the list is sorted by
+     * @return number of elements within [low, high], 0 if low > high
+     */
+    public static <T> int countInRange(List<? extends T> a, T low, T high, Comparator<? super T> c) {
+        return countInRange(a, 0, a.size(), low, high, c);
+    }
+
+    /**
+     * the same as {@link #countInRange(List, Object, Object, Comparator)} for the sublist [fromIndex, toIndex)
+     *
+     * @throws IllegalArgumentException  if fromIndex > toIndex
+     * @throws IndexOutOfBoundsException if fromIndex < 0 or toIndex > a.size()
+     */
+    public static <T> int countInRange(List<? extends T> a, int fromIndex, int toIndex, T low, T high, Comparator<? super T> c) {
+        listRangeCheck(a.size(), fromIndex, toIndex);
+        int lo = lowerBound0(a, fromIndex, toIndex, low, c);
+        return Math.max(0, upperBound0(a, lo, toIndex, high, c) - lo);
+    }
+
+    private static <T> int lowerBound0(List<? extends T> a, int fromIndex, int toIndex, T key, Comparator<? super T> c) {
+        int lo = fromIndex;
+        int hi = toIndex;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c.compare(a.get(mid), key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static <T> int upperBound0(List<? extends T> a, int fromIndex, int toIndex, T key, Comparator<? super T> c) {
+        int lo = fromIndex;
+        int hi = toIndex;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c.compare(a.get(mid), key) <= 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static void rangeCheck(int length, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    private static void listRangeCheck(int size, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException("[" + fromIndex + ", " + toIndex + ") is out of [0, " + size + ")");
+        }
+    }
 }
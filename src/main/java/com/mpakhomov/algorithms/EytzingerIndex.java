@@ -0,0 +1,139 @@
+package com.mpakhomov.algorithms;
+
+import java.util.Objects;
+
+/**
+ * Read-only copy of a sorted int array in Eytzinger (BFS) order, for fast lower-bound searches.
+ * <p>
+ * The elements are stored the way an implicit binary search tree is laid out in a binary heap: the root at 1,
+ * the children of node k at 2k and 2k + 1. A search goes from k to 2k or 2k + 1, so the first levels are packed
+ * together at the start of the array and stay in cache, and the 16 nodes four levels below k are adjacent: one
+ * cache line holds four steps of a search, where a plain binary search touches four different lines.
+ * <p>
+ * The step is branchless: k = 2k + (b[k] < key). When the search falls off the tree, the answer is the last node
+ * where it went left, which is recovered from the bits of k.
+ * <p>
+ * Java has no prefetch instruction, so unlike the C versions of this layout the search doesn't touch the
+ * descendants of k ahead of time. The layout alone is what makes it cache friendly; use
+ * {@link #lowerBounds(int[], int[])} to have many searches in flight at once.
+ * <p>
+ * Performance: build: O(n), lowerBound: O(log n)
+ * Space: O(n), two ints per element: the value and its index in the sorted array
+ *
+ * @see <a href="https://arxiv.org/abs/1509.05053">Khuong, Morin. Array Layouts for Comparison-Based Searching</a>
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class EytzingerIndex {
+
+    /** number of keys {@link #lowerBounds(int[], int[])} advances together */
+    static final int BATCH = 32;
+
+    /** values in BFS order, b[0] is not used */
+    private final int[] b;
+
+    /** rank[k] is the index of b[k] in the sorted array, rank[0] is the length of the array */
+    private final int[] rank;
+
+    private final int n;
+
+    /** node indexes are doubled on the way down, so they have to fit into an int after that */
+    static final int MAX_SIZE = (1 << 30) - 1;
+
+    /**
+     * @param sorted sorted array, it's copied
+     * @throws IllegalArgumentException if the array is longer than {@link #MAX_SIZE}
+     */
+    public EytzingerIndex(int[] sorted) {
+        Objects.requireNonNull(sorted);
+        if (sorted.length > MAX_SIZE) {
+            throw new IllegalArgumentException("the array is longer than " + MAX_SIZE);
+        }
+        n = sorted.length;
+        b = new int[n + 1];
+        rank = new int[n + 1];
+        rank[0] = n;
+        fill(sorted, 0, 1);
+    }
+
+    /**
+     * in-order traversal of the implicit tree visits the nodes in sorted order: fills the subtree of node k with
+     * sorted[i..], returns the index of the first element that is left. the recursion is log2(n) deep
+     */
+    private int fill(int[] sorted, int i, int k) {
+        if (k <= n) {
+            i = fill(sorted, i, 2 * k);
+            b[k] = sorted[i];
+            rank[k] = i++;
+            i = fill(sorted, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /**
+     * @param key key to search for
+     * @return index in the sorted array of the first element that is not less than the key, or size() if there
+     * is no such element
+     */
+    public int lowerBound(int key) {
+        int[] b = this.b;
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (b[k] < key ? 1 : 0);
+        }
+        // strip the right turns made after the last left one, and the left one itself
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return rank[k];
+    }
+
+    /**
+     * @param key key to search for
+     * @return index of the key in the sorted array, or -1 if it's not there. for duplicates, the first one
+     */
+    public int indexOf(int key) {
+        int k = 1;
+        while (k <= n) {
+            k = 2 * k + (b[k] < key ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k != 0 && b[k] == key ? rank[k] : -1;
+    }
+
+    /**
+     * batched {@link #lowerBound(int)}: result[i] = lowerBound(keys[i]). up to {@link #BATCH} searches go down
+     * the tree together, one level of all of them at a time, so their cache misses overlap
+     *
+     * @param keys   keys to search for, in any order
+     * @param result receives the indexes, at least as long as keys
+     * @throws IllegalArgumentException if result is shorter than keys
+     */
+    public void lowerBounds(int[] keys, int[] result) {
+        if (result.length < keys.length) {
+            throw new IllegalArgumentException("result is shorter than keys");
+        }
+        int[] b = this.b;
+        // all the searches make the same number of steps, give or take the last level
+        int levels = 32 - Integer.numberOfLeadingZeros(n);
+        for (int from = 0; from < keys.length; from += BATCH) {
+            int to = Math.min(from + BATCH, keys.length);
+            for (int i = from; i < to; i++) result[i] = 1;
+            for (int level = 1; level < levels; level++) {
+                for (int i = from; i < to; i++) {
+                    int k = result[i];
+                    result[i] = 2 * k + (b[k] < keys[i] ? 1 : 0);
+                }
+            }
+            for (int i = from; i < to; i++) {
+                int k = result[i];
+                if (k <= n) k = 2 * k + (b[k] < keys[i] ? 1 : 0);
+                k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+                result[i] = rank[k];
+            }
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.mpakhomov.algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable search index over a sorted long array: a static B+ tree (S+ tree) with {@link #B} = 8 keys per node,
+ * one node per 64-byte cache line.
+ * <p>
+ * The leaves are the sorted array itself, padded with {@link Long#MAX_VALUE} to whole nodes. Every layer above
+ * has a node per B + 1 nodes of the layer below; key j of a node is the smallest key of its child j + 1. There are
+ * no pointers: the children of node k are nodes k * (B + 1) .. k * (B + 1) + B of the next layer. A search counts
+ * the keys of a node that are less than the key, branch-free, and goes to that child, so it touches one node per
+ * layer: log_9(n) cache lines, 9 for 100M keys, where binary search touches about 27.
+ * <p>
+ * The layers are stored in one buffer, leaves first. An index can be written to a file and memory-mapped back
+ * by {@link #map(Path)}, which reads nothing but the header: pages are loaded on demand, so startup is instant.
+ * The header is 64 bytes long, so in a mapped file every node starts at a cache line boundary. Arrays on the heap
+ * can't be aligned, a node there may straddle two lines.
+ * <p>
+ * Performance: build: O(n), lowerBound, contains: O(log_9 n), get: O(1)
+ * Space: about n * (1 + 1/8) longs
+ *
+ * @see <a href="https://en.algorithmica.org/hpc/data-structures/s-tree/">Static B-trees</a>
+ * @see SortedLongIndex
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public final class SortedLongIndex {
+
+    /** keys per node, 8 longs make a cache line */
+    static final int B = 8;
+
+    /** file header: magic, key size, number of keys, keys per node, the rest is zeros */
+    static final int HEADER_BYTES = 64;
+
+    static final int MAGIC = 0x53494458; // "SIDX"
+
+    /** all the layers have to fit into a single mapped region of 2 GB */
+    static final long MAX_TREE_SIZE = (Integer.MAX_VALUE - HEADER_BYTES) / Long.BYTES;
+
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /** number of keys built in parallel by a single task */
+    private static final int PARALLEL_GRAIN = 1 << 16;
+
+    private final LongBuffer tree;
+    private final int n;
+
+    /** layerOffset[h] is the index of the first key of layer h, layer 0 holds the leaves. the last one is the size */
+    private final int[] layerOffset;
+
+    private SortedLongIndex(LongBuffer tree, int n, int[] layerOffset) {
+        this.tree = tree;
+        this.n = n;
+        this.layerOffset = layerOffset;
+    }
+
+    /**
+     * builds an index of a sorted array
+     *
+     * @param sorted sorted array, it's copied
+     * @return index
+     * @throws IllegalArgumentException if the array is not sorted or too long
+     */
+    public static SortedLongIndex build(long[] sorted) {
+        return build(sorted, false);
+    }
+
+    /**
+     * the same as {@link #build(long[])}, but the leaves and every node above them are filled by parallel tasks in
+     * the common fork/join pool
+     */
+    public static SortedLongIndex parallelBuild(long[] sorted) {
+        return build(sorted, true);
+    }
+
+    private static SortedLongIndex build(long[] sorted, boolean parallel) {
+        Objects.requireNonNull(sorted);
+        final int n = sorted.length;
+        final int[] offsets = layout(n);
+        final long[] t = new long[offsets[offsets.length - 1]];
+
+        int grains = (n + PARALLEL_GRAIN - 1) / PARALLEL_GRAIN;
+        boolean isSorted = range(grains, parallel).allMatch(g -> {
+            int from = Math.max(1, g * PARALLEL_GRAIN);
+            int to = (int) Math.min((long) (g + 1) * PARALLEL_GRAIN, n);
+            for (int i = from; i < to; i++) {
+                if (sorted[i - 1] > sorted[i]) return false;
+            }
+            return true;
+        });
+        if (!isSorted) {
+            throw new IllegalArgumentException("the array is not sorted");
+        }
+
+        // leaves: a copy of the array, padded to whole nodes
+        range(grains, parallel).forEach(g -> {
+            int from = g * PARALLEL_GRAIN;
+            int to = (int) Math.min((long) from + PARALLEL_GRAIN, n);
+            System.arraycopy(sorted, from, t, from, to - from);
+        });
+        for (int i = n; i < offsets[1]; i++) {
+            t[i] = Long.MAX_VALUE;
+        }
+
+        // layers above only read the array, so all of their nodes are independent
+        for (int h = 1; h < offsets.length - 1; h++) {
+            final int layer = h;
+            final long leavesPerChild = pow(B + 1, h - 1);
+            int nodes = (offsets[h + 1] - offsets[h]) / B;
+            range(nodes, parallel && nodes * B >= PARALLEL_GRAIN).forEach(k -> {
+                int base = offsets[layer] + k * B;
+                for (int j = 0; j < B; j++) {
+                    // the smallest key of child j + 1 is the first key of its leftmost leaf
+                    long child = (long) k * (B + 1) + j + 1;
+                    long pos = child * leavesPerChild * B;
+                    t[base + j] = pos < n ? sorted[(int) pos] : Long.MAX_VALUE;
+                }
+            });
+        }
+        return new SortedLongIndex(LongBuffer.wrap(t), n, offsets);
+    }
+
+    private static IntStream range(int count, boolean parallel) {
+        IntStream range = IntStream.range(0, count);
+        return parallel ? range.parallel() : range;
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+
+    /**
+     * @return offsets of the layers of an index of n keys, leaves first, plus the total size
+     * @throws IllegalArgumentException if the index doesn't fit into {@link #MAX_TREE_SIZE}
+     */
+    static int[] layout(int n) {
+        int height = 1;
+        for (long nodes = Math.max(1, ((long) n + B - 1) / B); nodes > 1; nodes = (nodes + B) / (B + 1)) {
+            height++;
+        }
+        int[] offsets = new int[height + 1];
+        long total = 0;
+        long nodes = Math.max(1, ((long) n + B - 1) / B);
+        for (int h = 0; h < height; h++) {
+            offsets[h] = (int) total;
+            total += nodes * B;
+            if (total > MAX_TREE_SIZE) {
+                throw new IllegalArgumentException("an index of " + n + " keys is larger than " + MAX_TREE_SIZE);
+            }
+            nodes = (nodes + B) / (B + 1);
+        }
+        offsets[height] = (int) total;
+        return offsets;
+    }
+
+    /**
+     * @return number of keys
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * @param key key to search for
+     * @return index of the first key that is not less than the key, size() if there is none
+     */
+    public int lowerBound(long key) {
+        int k = 0;
+        for (int h = layerOffset.length - 2; h > 0; h--) {
+            k = k * (B + 1) + countLess(layerOffset[h] + k * B, key);
+        }
+        // leaves start at 0, the keys of leaf k are at k * B .. k * B + B - 1
+        int base = k * B;
+        return Math.min(base + countLess(base, key), n);
+    }
+
+    /**
+     * @return number of keys of the node at base that are less than the key. the keys are sorted, but counting
+     * them all without a branch is faster than stopping at the first greater one
+     */
+    private int countLess(int base, long key) {
+        LongBuffer t = tree;
+        int less = 0;
+        for (int j = 0; j < B; j++) {
+            less += t.get(base + j) < key ? 1 : 0;
+        }
+        return less;
+    }
+
+    /**
+     * @param key key
+     * @return number of keys that are less than the key, the same as {@link #lowerBound(long)}
+     */
+    public int rank(long key) {
+        return lowerBound(key);
+    }
+
+    /**
+     * @param key key to search for
+     * @return true if the index has the key
+     */
+    public boolean contains(long key) {
+        int i = lowerBound(key);
+        return i < n && tree.get(i) == key;
+    }
+
+    /**
+     * @param i index, in [0, size())
+     * @return i-th smallest key
+     * @throws IndexOutOfBoundsException if i is out of [0, size())
+     */
+    public long get(int i) {
+        if (i < 0 || i >= n) {
+            throw new IndexOutOfBoundsException("index " + i + " is out of [0, " + n + ")");
+        }
+        return tree.get(i);
+    }
+
+    /**
+     * writes the index to a file that {@link #map(Path)} can read, the file is created or overwritten. keys are
+     * little-endian
+     *
+     * @param file target file
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(Path file) throws IOException {
+        int total = layerOffset[layerOffset.length - 1];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_BYTES + (long) total * Long.BYTES);
+            out.order(ORDER);
+            out.putInt(MAGIC).putInt(Long.BYTES).putInt(n).putInt(B);
+            out.position(HEADER_BYTES);
+            LongBuffer src = tree.duplicate();
+            src.clear();
+            out.asLongBuffer().put(src);
+            out.force();
+        }
+    }
+
+    /**
+     * maps an index written by {@link #writeTo(Path)}. only the header is read, the keys are paged in by the OS when
+     * searches touch them. the file must not be modified while the index is in use
+     *
+     * @param file index file
+     * @return index
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if the file is not an index of longs
+     */
+    public static SortedLongIndex map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes < HEADER_BYTES) {
+                throw new IllegalArgumentException("not an index file: " + file);
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes);
+            in.order(ORDER);
+            int magic = in.getInt();
+            int keyBytes = in.getInt();
+            int n = in.getInt();
+            int keysPerNode = in.getInt();
+            if (magic != MAGIC || keyBytes != Long.BYTES || keysPerNode != B || n < 0) {
+                throw new IllegalArgumentException("not an index of longs: " + file);
+            }
+            int[] offsets = layout(n);
+            if (bytes != HEADER_BYTES + (long) offsets[offsets.length - 1] * Long.BYTES) {
+                throw new IllegalArgumentException("index file is truncated or corrupted: " + file);
+            }
+            in.position(HEADER_BYTES);
+            ByteBuffer keys = in.slice().order(ORDER);
+            return new SortedLongIndex(keys.asLongBuffer(), n, offsets);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Sorter that looks at the input first and hands it over to the engine that suits it best.
+ * <p>
+ * A single pass over the array finds the min and max values and counts the runs (non-descending or strictly
+ * descending, the same way {@link TimSort} does). A small sample estimates the number of distinct values. Then:
+ * <p><ul>
+ * <li> tiny arrays go to {@link InsertionSort}, no statistics are gathered for them </li>
+ * <li> sorted arrays are left alone </li>
+ * <li> a value range not wider than the array goes to {@link CountingSort} </li>
+ * <li> few long runs, i.e. nearly sorted or reversed data, go to {@link TimSort} which merges them </li>
+ * <li> a handful of distinct values spread over a wide range go to {@link QuickSort}: its 3-way partitioning
+ * finishes in a few passes </li>
+ * <li> other arrays of at least {@link #RADIX_THRESHOLD} elements go to {@link RadixSort}, shorter ones to
+ * {@link QuickSort} </li>
+ * </ul>
+ * <p>
+ * Every decision, together with the statistics it was based on, is passed to the metrics hook, so what the
+ * sorter does can be logged or counted in production.
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class AdaptiveSort implements Sorting {
+
+    public enum Engine { INSERTION_SORT, ALREADY_SORTED, COUNTING_SORT, TIM_SORT, RADIX_SORT, QUICK_SORT }
+
+    /** arrays of this size or smaller are sorted by insertion sort */
+    static final int TINY = 16;
+
+    /** arrays of this size or larger are sorted by radix sort, if nothing better is found */
+    static final int RADIX_THRESHOLD = 1 << 9;
+
+    /** a sample with at most that many distinct values means that the input is duplicate-heavy */
+    static final int FEW_DISTINCT = 8;
+
+    /** data is nearly sorted if it has at most n / NEARLY_SORTED_RUN_RATIO runs */
+    static final int NEARLY_SORTED_RUN_RATIO = 64;
+
+    /** number of elements sampled to estimate the number of distinct values */
+    static final int SAMPLE_SIZE = 256;
+
+    /**
+     * Statistics of an input and the engine chosen for it
+     */
+    public static final class Decision {
+        private final Engine engine;
+        private final int length;
+        private final int min;
+        private final int max;
+        private final int runs;
+        private final int distinctInSample;
+        private final int sampleSize;
+
+        Decision(Engine engine, int length, int min, int max, int runs, int distinctInSample, int sampleSize) {
+            this.engine = engine;
+            this.length = length;
+            this.min = min;
+            this.max = max;
+            this.runs = runs;
+            this.distinctInSample = distinctInSample;
+            this.sampleSize = sampleSize;
+        }
+
+        public Engine getEngine() {
+            return engine;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        /** @return the smallest value, 0 for tiny arrays */
+        public int getMin() {
+            return min;
+        }
+
+        /** @return the largest value, 0 for tiny arrays */
+        public int getMax() {
+            return max;
+        }
+
+        /** @return number of runs, 0 for tiny arrays */
+        public int getRuns() {
+            return runs;
+        }
+
+        /** @return number of distinct values among {@link #getSampleSize()} sampled elements */
+        public int getDistinctInSample() {
+            return distinctInSample;
+        }
+
+        /** @return number of sampled elements, 0 if the sample wasn't needed */
+        public int getSampleSize() {
+            return sampleSize;
+        }
+
+        @Override
+        public String toString() {
+            return "Decision{engine=" + engine + ", length=" + length + ", min=" + min + ", max=" + max +
+                    ", runs=" + runs + ", distinctInSample=" + distinctInSample + ", sampleSize=" + sampleSize + '}';
+        }
+    }
+
+    private final Consumer<? super Decision> metrics;
+
+    public AdaptiveSort() {
+        this(d -> { });
+    }
+
+    /**
+     * @param metrics receives every decision, it's called by the sorting thread before the array is sorted
+     */
+    public AdaptiveSort(Consumer<? super Decision> metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * gathers the statistics and chooses the engine, the array is not modified
+     *
+     * @param a array to be sorted
+     * @return decision
+     */
+    public Decision decide(int[] a) {
+        final int n = a.length;
+        if (n <= TINY) {
+            return new Decision(Engine.INSERTION_SORT, n, 0, 0, 0, 0, 0);
+        }
+
+        int min = a[0];
+        int max = a[0];
+        int runs = 0;
+        for (int i = 0; i < n; ) {
+            // a run: non-descending or strictly descending
+            runs++;
+            int j = i + 1;
+            if (j < n && a[j] < a[i]) {
+                while (j < n && a[j] < a[j - 1]) j++;
+                // the run is descending: its ends are the extremes
+                min = Math.min(min, a[j - 1]);
+                max = Math.max(max, a[i]);
+            } else {
+                while (j < n && a[j] >= a[j - 1]) j++;
+                min = Math.min(min, a[i]);
+                max = Math.max(max, a[j - 1]);
+            }
+            i = j;
+        }
+
+        Engine engine;
+        int distinct = 0;
+        int sampleSize = 0;
+        if (runs == 1 && a[0] <= a[n - 1]) {
+            engine = Engine.ALREADY_SORTED;
+        } else if ((long) max - min < Math.min(n, CountingSort.MAX_RANGE)) {
+            engine = Engine.COUNTING_SORT;
+        } else if (runs <= n / NEARLY_SORTED_RUN_RATIO) {
+            engine = Engine.TIM_SORT;
+        } else {
+            sampleSize = Math.min(n, SAMPLE_SIZE);
+            distinct = distinctInSample(a, sampleSize);
+            engine = n >= RADIX_THRESHOLD && distinct > FEW_DISTINCT ? Engine.RADIX_SORT : Engine.QUICK_SORT;
+        }
+        return new Decision(engine, n, min, max, runs, distinct, sampleSize);
+    }
+
+    /**
+     * @return number of distinct values among sampleSize elements taken at even intervals
+     */
+    private static int distinctInSample(int[] a, int sampleSize) {
+        int[] sample = new int[sampleSize];
+        long step = ((long) a.length << 16) / sampleSize;
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = a[(int) ((i * step) >>> 16)];
+        }
+        QuickSort.sort(sample);
+        int distinct = 1;
+        for (int i = 1; i < sampleSize; i++) {
+            if (sample[i] != sample[i - 1]) distinct++;
+        }
+        return distinct;
+    }
+
+    /**
+     * sorts an array of 32-bit integers by the engine chosen for it
+     *
+     * @param a array to be sorted
+     */
+    public void sort(int[] a) {
+        sort(a, null);
+    }
+
+    /**
+     * the same as {@link #sort(int[])}, but engines take scratch space from the workspace
+     *
+     * @param a         array to be sorted
+     * @param workspace scratch space, or null to allocate
+     */
+    public void sort(int[] a, SortWorkspace workspace) {
+        Objects.requireNonNull(a);
+        Decision decision = decide(a);
+        metrics.accept(decision);
+        switch (decision.getEngine()) {
+            case INSERTION_SORT:
+                InsertionSort.sort(a);
+                break;
+            case ALREADY_SORTED:
+                break;
+            case COUNTING_SORT:
+                CountingSort.sort(a, decision.getMin(), decision.getMax(), workspace);
+                break;
+            case TIM_SORT:
+                TimSort.sort(a);
+                break;
+            case RADIX_SORT:
+                if (workspace == null) RadixSort.sort(a);
+                else RadixSort.sort(a, workspace);
+                break;
+            case QUICK_SORT:
+                if (workspace == null) QuickSort.sort(a);
+                else QuickSort.sort(a, workspace);
+                break;
+            default:
+                throw new IllegalStateException("unknown engine: " + decision.getEngine());
+        }
+    }
+
+    @Override
+    public void instanceSort(int[] a) {
+        sort(a);
+    }
+
+    @Override
+    public void instanceSort(int[] a, SortWorkspace workspace) {
+        sort(a, workspace);
+    }
+}
@@ -62,6 +62,21 @@ public class BubbleSort implements Sorting {
         a[j] = tmp;
     }
 
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true;
+    }
+
+    @Override
+    public boolean isAllocationFree() {
+        return true;
+    }
+
     @Override
     public void instanceSort(int[] a) {
         sort(a);
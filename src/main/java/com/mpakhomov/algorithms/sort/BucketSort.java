@@ -0,0 +1,266 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static com.mpakhomov.algorithms.sort.SortUtil.chunkStart;
+import static com.mpakhomov.algorithms.sort.SortUtil.forEachChunk;
+
+/**
+ * Bucket sort for doubles that are roughly uniformly distributed.
+ * <p>
+ * The range [min, max] is split into n / {@link #BUCKET_LOAD} buckets of equal width, or into n / p buckets when
+ * there are more than {@link #BUCKET_LOAD} workers, so that the p histograms take no more than n counters. The
+ * elements are counted per bucket, scattered into an auxiliary array bucket by bucket, and every bucket is sorted on
+ * its own: by insertion sort when it's short, which is the usual case for uniform data, by {@link RadixSort}
+ * otherwise, so skewed data is not quadratic.
+ * <p>
+ * Every phase is split into chunks, one chunk per worker, in the same way as in {@link ParallelRadixSort}:
+ * <p><ul>
+ * <li> every worker finds the min and max of its chunk </li>
+ * <li> every worker builds a histogram of buckets of its chunk </li>
+ * <li> histograms are combined into prefix sums, then every worker scatters its chunk to the positions computed
+ * for it </li>
+ * <li> every worker sorts a slice of buckets of about n / p elements and copies it back </li>
+ * </ul>
+ * <p>
+ * The order is the same as {@link java.util.Arrays#sort(double[])}: NaNs are moved to the end beforehand,
+ * -0.0 are counted and turned into 0.0, and put back in front of the zeros afterwards. If the range is infinite,
+ * the array is sorted by {@link RadixSort}.
+ * <p>
+ * Performance: Average: O(n) for uniform data, Worst: O(n), but with the eight passes of radix sort when a few
+ * buckets get most of the elements
+ * Space: O(n): n doubles of auxiliary array and at most n counters
+ * Stable: no
+ * Adaptive: no
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Bucket_sort">https://en.wikipedia.org/wiki/Bucket_sort</a>
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class BucketSort implements DoubleSorting {
+
+    /** arrays shorter than that are processed by a single thread */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    /** average number of elements per bucket */
+    static final int BUCKET_LOAD = 4;
+
+    /** buckets of this size or smaller are sorted by insertion sort, larger ones by radix sort */
+    static final int INSERTION_CUTOFF = 32;
+
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0d);
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+
+    /**
+     * sorter that runs in {@link ForkJoinPool#commonPool()}
+     */
+    public BucketSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool pool to run the workers in
+     */
+    public BucketSort(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+        this.parallelism = pool.getParallelism();
+    }
+
+    /**
+     * sorts an array of doubles
+     *
+     * @param a array to be sorted
+     */
+    public void sort(double[] a) {
+        Objects.requireNonNull(a);
+        if (a.length < 2) {
+            return;
+        }
+        if (chunks(a.length) == 1) {
+            sortInPool(a);
+        } else {
+            pool.invoke(ForkJoinTask.adapt(() -> sortInPool(a)));
+        }
+    }
+
+    private void sortInPool(double[] a) {
+        final int n = a.length;
+        final int chunks = chunks(n);
+        double[] mins = new double[chunks];
+        double[] maxs = new double[chunks];
+        int[] nans = new int[chunks];
+        int[] negativeZeros = new int[chunks];
+        forEachChunk(chunks, c -> {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = chunkStart(0, n, chunks, c), end = chunkStart(0, n, chunks, c + 1); i < end; i++) {
+                double v = a[i];
+                if (v != v) {
+                    nans[c]++;
+                    continue;
+                }
+                if (v == 0.0d && Double.doubleToRawLongBits(v) == NEGATIVE_ZERO_BITS) {
+                    a[i] = 0.0d;
+                    negativeZeros[c]++;
+                }
+                if (v < min) min = v;
+                if (v > max) max = v;
+            }
+            mins[c] = min;
+            maxs[c] = max;
+        });
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int nan = 0;
+        int negativeZero = 0;
+        for (int c = 0; c < chunks; c++) {
+            min = Math.min(min, mins[c]);
+            max = Math.max(max, maxs[c]);
+            nan += nans[c];
+            negativeZero += negativeZeros[c];
+        }
+
+        final int m = n - nan;
+        if (nan > 0) {
+            moveNaNsToEnd(a);
+        }
+        if (m > 1 && min < max) {
+            if (Double.isInfinite(max - min)) {
+                RadixSort.sort(a, 0, m);
+            } else {
+                distribute(a, m, min, max);
+            }
+        }
+        if (negativeZero > 0) {
+            // the zeros start at the first element that is not negative
+            int lo = 0;
+            int hi = m;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (a[mid] < 0.0d) lo = mid + 1;
+                else hi = mid;
+            }
+            for (int i = lo; i < lo + negativeZero; i++) {
+                a[i] = -0.0d;
+            }
+        }
+    }
+
+    /**
+     * sorts a[0..m-1], all the elements are finite numbers within [min, max], min < max and max - min is finite
+     */
+    private void distribute(double[] a, int m, double min, double max) {
+        final int chunks = chunks(m);
+        // every chunk has a histogram of its own: all of them together are capped at m counters
+        final int buckets = Math.max(1, m / Math.max(BUCKET_LOAD, chunks));
+        final double scale = buckets / (max - min);
+
+        int[][] counts = new int[chunks][buckets];
+        forEachChunk(chunks, c -> {
+            int[] count = counts[c];
+            for (int i = chunkStart(0, m, chunks, c), end = chunkStart(0, m, chunks, c + 1); i < end; i++) {
+                count[bucket(a[i], min, scale, buckets)]++;
+            }
+        });
+
+        // prefix sums, bucket by bucket, chunk by chunk. counts[c][b] becomes the first position of bucket b
+        // for chunk c
+        int[] bucketStart = new int[buckets + 1];
+        for (int b = 0, pos = 0; b < buckets; b++) {
+            bucketStart[b] = pos;
+            for (int c = 0; c < chunks; c++) {
+                int cnt = counts[c][b];
+                counts[c][b] = pos;
+                pos += cnt;
+            }
+        }
+        bucketStart[buckets] = m;
+
+        double[] aux = new double[m];
+        forEachChunk(chunks, c -> {
+            int[] next = counts[c];
+            for (int i = chunkStart(0, m, chunks, c), end = chunkStart(0, m, chunks, c + 1); i < end; i++) {
+                double v = a[i];
+                aux[next[bucket(v, min, scale, buckets)]++] = v;
+            }
+        });
+
+        // slice c is made of the buckets [firstBucket[c], firstBucket[c + 1]), about m / chunks elements
+        int[] firstBucket = new int[chunks + 1];
+        firstBucket[chunks] = buckets;
+        for (int c = 1, b = 0; c < chunks; c++) {
+            int start = chunkStart(0, m, chunks, c);
+            while (b < buckets && bucketStart[b] < start) b++;
+            firstBucket[c] = b;
+        }
+        forEachChunk(chunks, c -> {
+            for (int b = firstBucket[c], end = firstBucket[c + 1]; b < end; b++) {
+                sortBucket(aux, bucketStart[b], bucketStart[b + 1]);
+            }
+            int from = bucketStart[firstBucket[c]];
+            int to = bucketStart[firstBucket[c + 1]];
+            System.arraycopy(aux, from, a, from, to - from);
+        });
+    }
+
+    /**
+     * @return bucket of v. the mapping doesn't decrease with v, so buckets are ordered
+     */
+    private static int bucket(double v, double min, double scale, int buckets) {
+        int b = (int) ((v - min) * scale);
+        return b < buckets ? b : buckets - 1;
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1], there are neither NaNs nor -0.0 in it
+     */
+    private static void sortBucket(double[] a, int fromIndex, int toIndex) {
+        if (toIndex - fromIndex > INSERTION_CUTOFF) {
+            RadixSort.sort(a, fromIndex, toIndex);
+            return;
+        }
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            double v = a[i];
+            int j = i - 1;
+            while (j >= fromIndex && a[j] > v) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = v;
+        }
+    }
+
+    /**
+     * moves NaNs to the end of the array, the order of the other elements is not preserved
+     */
+    private static void moveNaNsToEnd(double[] a) {
+        int end = a.length;
+        for (int i = 0; i < end; ) {
+            double v = a[i];
+            if (v != v) {
+                a[i] = a[--end];
+                a[end] = v;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * @return number of chunks to split an array of length n into: one per worker, but not shorter than
+     * {@link #SEQUENTIAL_THRESHOLD}
+     */
+    private int chunks(int n) {
+        return Math.max(1, Math.min(parallelism, n / SEQUENTIAL_THRESHOLD));
+    }
+
+    @Override
+    public void instanceSort(double[] a) {
+        sort(a);
+    }
+}
@@ -0,0 +1,143 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Counting sort for 32-bit integers from a narrow range [min, max].
+ * <p>
+ * One pass counts the occurrences of every value, then the array is rewritten from the counters. There is no
+ * comparison and no data movement besides the final write, so for a range that is not much wider than the array
+ * it beats all the comparison sorts and the four passes of the radix sorts.
+ * <p>
+ * Performance: O(n + k), where k = max - min + 1
+ * Space: O(k)
+ * Stable: yes, equal ints are indistinguishable and they are recreated from the counters
+ * Adaptive: no
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Counting_sort">https://en.wikipedia.org/wiki/Counting_sort</a>
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class CountingSort implements Sorting {
+
+    /** the widest range counters are allocated for: 64M counters, 256 MB */
+    public static final int MAX_RANGE = 1 << 26;
+
+    /**
+     * a detected range is counted only if it has at most that many counters per element, otherwise clearing and
+     * scanning the counters costs more than a radix sort of the array
+     */
+    static final int MAX_RANGE_PER_ELEMENT = 4;
+
+    /**
+     * sorts an array of 32-bit integers, the range is found by a pass over the array. if it's wider than
+     * {@link #MAX_RANGE} or than {@link #MAX_RANGE_PER_ELEMENT} times the length of the array, the array is
+     * sorted by {@link RadixSort}
+     *
+     * @param a array to be sorted
+     */
+    static public void sort(int[] a) {
+        sort(a, null);
+    }
+
+    /**
+     * the same as {@link #sort(int[])}, but takes the counters from the workspace
+     *
+     * @param a         array to be sorted
+     * @param workspace scratch space, or null to allocate
+     */
+    static public void sort(int[] a, SortWorkspace workspace) {
+        Objects.requireNonNull(a);
+        if (a.length < 2) {
+            return;
+        }
+        int min = a[0];
+        int max = a[0];
+        for (int v : a) {
+            if (v < min) min = v;
+            if (v > max) max = v;
+        }
+        if (!isNarrow(min, max, a.length)) {
+            if (workspace == null) RadixSort.sort(a);
+            else RadixSort.sort(a, workspace);
+            return;
+        }
+        sort(a, min, max, workspace);
+    }
+
+    /**
+     * @return true if counting sort pays off for n values from [min, max]: the range has at most
+     * {@link #MAX_RANGE_PER_ELEMENT} counters per element and no more than {@link #MAX_RANGE} counters
+     */
+    static boolean isNarrow(int min, int max, int n) {
+        long range = (long) max - min + 1;
+        return range <= Math.min((long) n * MAX_RANGE_PER_ELEMENT, MAX_RANGE);
+    }
+
+    /**
+     * sorts an array of 32-bit integers from a known range
+     *
+     * @param a   array to be sorted
+     * @param min the smallest value that may occur in the array
+     * @param max the largest value that may occur in the array
+     * @throws IllegalArgumentException if the range is wider than {@link #MAX_RANGE} or a value is out of it
+     */
+    static public void sort(int[] a, int min, int max) {
+        sort(a, min, max, null);
+    }
+
+    /**
+     * the same as {@link #sort(int[], int, int)}, but takes the counters from the workspace
+     *
+     * @param workspace scratch space, or null to allocate
+     */
+    static void sort(int[] a, int min, int max, SortWorkspace workspace) {
+        long range = (long) max - min + 1;
+        if (range < 1 || range > MAX_RANGE) {
+            throw new IllegalArgumentException("range [" + min + ", " + max + "] is empty or wider than " + MAX_RANGE);
+        }
+        int k = (int) range;
+        int[] count;
+        if (workspace == null) {
+            count = new int[k];
+        } else {
+            count = workspace.ints(0, k);
+            Arrays.fill(count, 0, k, 0);
+        }
+        for (int v : a) {
+            if (v < min || v > max) {
+                throw new IllegalArgumentException(v + " is out of [" + min + ", " + max + "]");
+            }
+            count[v - min]++;
+        }
+        for (int i = 0, pos = 0; i < k; i++) {
+            int c = count[i];
+            if (c > 0) {
+                Arrays.fill(a, pos, pos + c, min + i);
+                pos += c;
+            }
+        }
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public boolean isAllocationFree() {
+        return true;
+    }
+
+    @Override
+    public void instanceSort(int[] a) {
+        sort(a);
+    }
+
+    @Override
+    public void instanceSort(int[] a, SortWorkspace workspace) {
+        sort(a, workspace);
+    }
+}
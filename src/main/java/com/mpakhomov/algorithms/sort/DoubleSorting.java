@@ -0,0 +1,12 @@
+package com.mpakhomov.algorithms.sort;
+
+/**
+ * Sibling of {@link Sorting} for arrays of doubles. Implementations sort in the same order as
+ * {@link java.util.Arrays#sort(double[])}: -Infinity < -0.0 < 0.0 < Infinity < NaN.
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public interface DoubleSorting {
+    void instanceSort(double[] a);
+}
@@ -0,0 +1,322 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * External (out-of-core) merge sort for binary files of 32-bit integers that don't fit into the heap.
+ * <p>
+ * The file is a sequence of big-endian ints, the same format {@link java.io.DataOutputStream#writeInt(int)}
+ * produces. Sorting takes two phases:
+ * <p><ul>
+ * <li> run generation: the input is memory-mapped chunk by chunk, each chunk of up to runSize ints is copied to
+ * the heap, sorted by the in-memory {@link Sorting} and spilled to a temporary file </li>
+ * <li> merge: up to fanIn runs are merged at once with a min-heap of buffered run readers. if there are more runs
+ * than that, groups of fanIn runs are merged into longer temporary runs first, pass after pass, until the final
+ * merge can write the output </li>
+ * </ul>
+ * <p>
+ * All I/O goes through {@link FileChannel}s and direct buffers, so the data is not copied between the OS and
+ * the JVM heap except for the chunk being sorted. Memory usage is about runSize ints for the chunk and its
+ * auxiliary array during the first phase and (fanIn + 1) * bufferSize bytes during the merge.
+ * <p>
+ * Performance: O(n log n) comparisons, O(n * (1 + log_fanIn(n / runSize))) I/O
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/External_sorting">https://en.wikipedia.org/wiki/External_sorting</a>
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class ExternalSort {
+
+    /** 16M ints, 64 MB per run */
+    public static final int DEFAULT_RUN_SIZE = 1 << 24;
+
+    public static final int DEFAULT_FAN_IN = 64;
+
+    /** size of the buffer of every run reader and of the writer, in bytes */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    /** a run is mapped as a single region, so it must not be longer than 2 GB */
+    static final int MAX_RUN_SIZE = Integer.MAX_VALUE / Integer.BYTES;
+
+    private static final ByteOrder ORDER = ByteOrder.BIG_ENDIAN;
+
+    private final int runSize;
+    private final int fanIn;
+    private final int bufferSize;
+    private final Path tempDir;
+    private final Sorting sorter;
+
+    /**
+     * sorter with default run size, fan-in and buffer size that spills runs to java.io.tmpdir and sorts them by
+     * {@link RadixSort}
+     */
+    public ExternalSort() {
+        this(DEFAULT_RUN_SIZE, DEFAULT_FAN_IN, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param runSize max number of ints sorted in memory at once
+     * @param fanIn   max number of runs merged at once
+     * @param tempDir directory for the temporary files
+     */
+    public ExternalSort(int runSize, int fanIn, Path tempDir) {
+        this(runSize, fanIn, DEFAULT_BUFFER_SIZE, tempDir, new RadixSort());
+    }
+
+    /**
+     * @param runSize    max number of ints sorted in memory at once
+     * @param fanIn      max number of runs merged at once, at least 2
+     * @param bufferSize size of the I/O buffers in bytes, a multiple of 4
+     * @param tempDir    directory for the temporary files
+     * @param sorter     in-memory sort for the runs, e.g. {@link MergeSort} or {@link RadixSort}. it must handle
+     *                   negative numbers if the file has them
+     */
+    public ExternalSort(int runSize, int fanIn, int bufferSize, Path tempDir, Sorting sorter) {
+        if (runSize < 1 || runSize > MAX_RUN_SIZE) {
+            throw new IllegalArgumentException("runSize should be in [1, " + MAX_RUN_SIZE + "]");
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn should be at least 2");
+        }
+        if (bufferSize < Integer.BYTES || bufferSize % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("bufferSize should be a positive multiple of 4");
+        }
+        this.runSize = runSize;
+        this.fanIn = fanIn;
+        this.bufferSize = bufferSize;
+        this.tempDir = Objects.requireNonNull(tempDir);
+        this.sorter = Objects.requireNonNull(sorter);
+    }
+
+    /**
+     * sorts the ints of the input file and writes them to the output file. the input is not modified, the output
+     * is created or overwritten. input and output must be different files
+     *
+     * @param input  file of big-endian 32-bit ints
+     * @param output sorted file
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if the length of the input is not a multiple of 4
+     */
+    public void sort(Path input, Path output) throws IOException {
+        Deque<Path> runs = new ArrayDeque<>();
+        try {
+            if (createRuns(input, output, runs)) {
+                return;
+            }
+            while (runs.size() > fanIn) {
+                List<Path> group = new ArrayList<>(fanIn);
+                for (int i = 0; i < fanIn; i++) {
+                    group.add(runs.removeFirst());
+                }
+                Path merged = Files.createTempFile(tempDir, "run", ".bin");
+                runs.addLast(merged);
+                try {
+                    merge(group, merged);
+                } finally {
+                    deleteAll(group);
+                }
+            }
+            merge(runs, output);
+        } finally {
+            deleteAll(runs);
+        }
+    }
+
+    /**
+     * phase 1: splits the input into sorted runs. if the whole input fits into a single run, it goes straight
+     * to the output
+     *
+     * @return true if the output is written already
+     */
+    private boolean createRuns(Path input, Path output, Deque<Path> runs) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            long bytes = in.size();
+            if (bytes % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("file length " + bytes + " is not a multiple of 4: " + input);
+            }
+            long total = bytes / Integer.BYTES;
+            int[] run = new int[(int) Math.min(runSize, total)];
+            SortWorkspace workspace = new SortWorkspace();
+            for (long pos = 0; pos < total; pos += runSize) {
+                int len = (int) Math.min(runSize, total - pos);
+                MappedByteBuffer chunk = in.map(FileChannel.MapMode.READ_ONLY,
+                        pos * Integer.BYTES, (long) len * Integer.BYTES);
+                chunk.order(ORDER).asIntBuffer().get(run, 0, len);
+                if (len == run.length) {
+                    sorter.instanceSort(run, workspace);
+                } else {
+                    sorter.instanceSort(run, 0, len);
+                }
+
+                boolean single = len == total;
+                Path target = single ? output : Files.createTempFile(tempDir, "run", ".bin");
+                if (!single) runs.addLast(target);
+                try (RunWriter writer = new RunWriter(target, bufferSize)) {
+                    writer.write(run, len);
+                }
+                if (single) return true;
+            }
+            if (total == 0) {
+                new RunWriter(output, bufferSize).close();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * merges sorted runs into the target file with a min-heap of run readers
+     */
+    private void merge(Iterable<Path> runs, Path target) throws IOException {
+        List<RunReader> readers = new ArrayList<>();
+        try (RunWriter writer = new RunWriter(target, bufferSize)) {
+            for (Path run : runs) {
+                RunReader reader = new RunReader(run, bufferSize);
+                readers.add(reader);
+            }
+            // heap[0..size-1] is a min-heap of readers by their current value, exhausted readers are dropped
+            RunReader[] heap = new RunReader[readers.size()];
+            int size = 0;
+            for (RunReader reader : readers) {
+                if (reader.advance()) heap[size++] = reader;
+            }
+            for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                siftDown(heap, i, size);
+            }
+            while (size > 0) {
+                RunReader top = heap[0];
+                writer.write(top.current);
+                if (!top.advance()) {
+                    heap[0] = heap[--size];
+                }
+                siftDown(heap, 0, size);
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private static void siftDown(RunReader[] heap, int i, int size) {
+        RunReader r = heap[i];
+        int child;
+        while ((child = 2 * i + 1) < size) {
+            if (child + 1 < size && heap[child + 1].current < heap[child].current) child++;
+            if (r.current <= heap[child].current) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = r;
+    }
+
+    private static void deleteAll(Iterable<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * reads a run sequentially through a direct buffer
+     */
+    private static class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private int current;
+
+        RunReader(Path run, int bufferSize) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferSize).order(ORDER);
+            buffer.flip();
+        }
+
+        /**
+         * moves to the next int of the run
+         *
+         * @return false if the run is exhausted
+         */
+        boolean advance() throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                buffer.compact();
+                while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+                    // a read may return less than asked for, fill the buffer up
+                }
+                buffer.flip();
+                if (buffer.remaining() < Integer.BYTES) {
+                    return false;
+                }
+            }
+            current = buffer.getInt();
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * writes ints sequentially through a direct buffer
+     */
+    private static class RunWriter implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final IntBuffer ints;
+
+        RunWriter(Path target, int bufferSize) throws IOException {
+            this.channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            this.buffer = ByteBuffer.allocateDirect(bufferSize).order(ORDER);
+            this.ints = buffer.asIntBuffer();
+        }
+
+        void write(int v) throws IOException {
+            if (!ints.hasRemaining()) flush();
+            ints.put(v);
+        }
+
+        void write(int[] a, int len) throws IOException {
+            for (int off = 0; off < len; ) {
+                if (!ints.hasRemaining()) flush();
+                int n = Math.min(ints.remaining(), len - off);
+                ints.put(a, off, n);
+                off += n;
+            }
+        }
+
+        private void flush() throws IOException {
+            buffer.limit(ints.position() * Integer.BYTES);
+            buffer.position(0);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+            ints.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+}
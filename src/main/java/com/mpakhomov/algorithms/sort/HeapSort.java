@@ -0,0 +1,122 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.queue.IntDaryHeap;
+
+import java.util.Objects;
+
+/**
+ * Heap sort with a d-ary heap, the same layout as {@link IntDaryHeap}.
+ * <p>
+ * The array itself becomes a max-heap (Floyd's bottom-up construction, O(n)). The root is swapped with the last
+ * slot of the heap, which shrinks by one, and sifted down, so the array fills up from the end in ascending order.
+ * The heap is sifted directly in the array, no heap object or other memory is needed.
+ * <p>
+ * A d-ary heap is log_d(n) levels deep, so with d = 4 there are half as many levels as in the binary heap
+ * and the children of a node are adjacent in memory.
+ * <p>
+ * Performance: Average: O(n log n), Best: O(n log n), Worst: O(n log n)
+ * Space: O(1)
+ * Stable: no
+ * Adaptive: no
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Heapsort">https://en.wikipedia.org/wiki/Heapsort</a>
+ * @see <a href="https://en.wikipedia.org/wiki/D-ary_heap">https://en.wikipedia.org/wiki/D-ary_heap</a>
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class HeapSort implements Sorting {
+
+    private final int d;
+
+    public HeapSort() {
+        this(IntDaryHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * @param d number of children of a heap node, at least 2
+     */
+    public HeapSort(int d) {
+        if (d < 2) {
+            throw new IllegalArgumentException("d should be at least 2");
+        }
+        this.d = d;
+    }
+
+    /**
+     * sorts an array of 32-bit integers with a {@link IntDaryHeap#DEFAULT_ARITY}-ary heap
+     *
+     * @param a array to be sorted
+     */
+    static public void sort(int[] a) {
+        sort(a, IntDaryHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * sorts an array of 32-bit integers
+     *
+     * @param a array to be sorted
+     * @param d number of children of a heap node, at least 2
+     */
+    static public void sort(int[] a, int d) {
+        Objects.requireNonNull(a);
+        if (d < 2) {
+            throw new IllegalArgumentException("d should be at least 2");
+        }
+        int n = a.length;
+        if (n < 2) {
+            return;
+        }
+        for (int i = (n - 2) / d; i >= 0; i--) {
+            siftDown(a, i, a[i], n, d);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            int max = a[0];
+            siftDown(a, 0, a[end], end, d);
+            a[end] = max;
+        }
+    }
+
+    /**
+     * puts key to position i of the max-heap a[0..n-1] or below it, moving the greatest children up
+     */
+    private static void siftDown(int[] a, int i, int key, int n, int d) {
+        if (n < 2) {
+            a[i] = key;
+            return;
+        }
+        // node i has children if d * i + 1 < n, i.e. i <= (n - 2) / d
+        int lastParent = (n - 2) / d;
+        while (i <= lastParent) {
+            int first = d * i + 1;
+            int end = Math.min(first + d, n);
+            int max = first;
+            int maxKey = a[first];
+            for (int c = first + 1; c < end; c++) {
+                if (a[c] > maxKey) {
+                    maxKey = a[c];
+                    max = c;
+                }
+            }
+            if (maxKey <= key) break;
+            a[i] = maxKey;
+            i = max;
+        }
+        a[i] = key;
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true;
+    }
+
+    @Override
+    public boolean isAllocationFree() {
+        return true;
+    }
+
+    @Override
+    public void instanceSort(int[] a) {
+        sort(a, d);
+    }
+}
@@ -1,5 +1,8 @@
 package com.mpakhomov.algorithms.sort;
 
+import java.util.Comparator;
+import java.util.Objects;
+
 /**
  * Insertion sort iterates, consuming one input element each repetition, and growing a sorted output list.
  * Each iteration, insertion sort removes one element from the input data, finds the location it belongs within
@@ -29,7 +32,7 @@ package com.mpakhomov.algorithms.sort;
  * @author mpakhomov
  * @since 8/24/2015
  */
-public class InsertionSort implements Sorting {
+public class InsertionSort implements Sorting, ObjectSorting {
 
     /**
      * sort the array
@@ -44,6 +47,48 @@ public class InsertionSort implements Sorting {
         }
     }
 
+    /**
+     * sorts a[fromIndex..toIndex-1], the rest of the array is not touched
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    static public void sort(int[] a, int fromIndex, int toIndex) {
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            for (int j = i; j > fromIndex && a[j] < a[j - 1]; j--) {
+                exch(a, j, j - 1);
+            }
+        }
+    }
+
+    /**
+     * sorts an array of objects according to the comparator. binary insertion sort, stable
+     *
+     * @param a   array to be sorted
+     * @param c   comparator
+     * @param <T> type of the elements
+     */
+    static public <T> void sort(T[] a, Comparator<? super T> c) {
+        sort(a, 0, a.length, c);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] according to the comparator. binary insertion sort, stable
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     * @param c         comparator
+     * @param <T>       type of the elements
+     */
+    static public <T> void sort(T[] a, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Objects.requireNonNull(c);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        binarySort(a, fromIndex, toIndex - 1, c);
+    }
+
     /**
      * optimized version of insertion sort. instead of swapping elements one by one, find the correct position for the
      * current element and call {@link System#arraycopy(Object, int, Object, int, int)}
@@ -66,14 +111,103 @@ public class InsertionSort implements Sorting {
         }
     }
 
+    /**
+     * binary insertion sort of a[lo..hi]. the same as {@link #sortWithArrayCopy(int[])}, but the proper position
+     * of the current element is found by binary search. it still moves O(n^2) elements, but makes only
+     * O(n log n) comparisons. this is what JDK's TimSort uses to sort short runs
+     *
+     * @param a  array to be sorted
+     * @param lo index of the first element, inclusive
+     * @param hi index of the last element, inclusive
+     */
+    static public void binarySort(int[] a, int lo, int hi) {
+        binarySort(a, lo, hi, lo + 1);
+    }
+
+    /**
+     * binary insertion sort of a[lo..hi] when a[lo..start-1] is known to be sorted already
+     *
+     * @param a     array to be sorted
+     * @param lo    index of the first element, inclusive
+     * @param hi    index of the last element, inclusive
+     * @param start index of the first element that may be out of order
+     */
+    static void binarySort(int[] a, int lo, int hi, int start) {
+        if (start == lo) start++;
+        for (int i = start; i <= hi; i++) {
+            int cur = a[i];
+            // find the first element in a[lo..i-1] that is greater than cur. equal elements stay on the left,
+            // so the sort is stable
+            int left = lo, right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (cur < a[mid]) right = mid;
+                else left = mid + 1;
+            }
+            if (left != i) {
+                System.arraycopy(a, left, a, left + 1, i - left);
+                a[left] = cur;
+            }
+        }
+    }
+
+    /**
+     * the same as {@link #binarySort(int[], int, int)}, but for objects compared by the comparator
+     *
+     * @param a  array to be sorted
+     * @param lo index of the first element, inclusive
+     * @param hi index of the last element, inclusive
+     * @param c  comparator
+     */
+    static <T> void binarySort(T[] a, int lo, int hi, Comparator<? super T> c) {
+        for (int i = lo + 1; i <= hi; i++) {
+            T cur = a[i];
+            int left = lo, right = i;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (c.compare(cur, a[mid]) < 0) right = mid;
+                else left = mid + 1;
+            }
+            if (left != i) {
+                System.arraycopy(a, left, a, left + 1, i - left);
+                a[left] = cur;
+            }
+        }
+    }
+
     private static void exch(int a[], int i, int j) {
         int tmp = a[i];
         a[i] = a[j];
         a[j] = tmp;
     }
 
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true;
+    }
+
+    @Override
+    public boolean isAllocationFree() {
+        return true;
+    }
+
+    @Override
+    public <T> void instanceSort(T[] a, Comparator<? super T> c) {
+        sort(a, c);
+    }
+
     @Override
     public void instanceSort(int[] a) {
         sort(a);
     }
+
+    @Override
+    public void instanceSort(int[] a, int fromIndex, int toIndex) {
+        sort(a, fromIndex, toIndex);
+    }
 }
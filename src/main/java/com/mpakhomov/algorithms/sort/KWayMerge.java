@@ -0,0 +1,324 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Merge of k sorted sequences into one: sorted shards, runs of an external sort and the like. Unlike
+ * {@link MergeSort#merge(int[], int[], int, int, int)} the number of inputs is arbitrary.
+ * <p>
+ * Arrays of primitives are merged with a loser tree (tournament tree): leaves are the sources, every internal node
+ * keeps the loser of the match played there and the overall winner sits on the top. When the winner's source moves
+ * to the next element, only the matches on the path from its leaf to the root are replayed: one comparison per
+ * level, while sift-down in a binary heap takes two.
+ * <p>
+ * Iterators are merged lazily with a binary min-heap of their current elements, so the merged sequence can be
+ * consumed as a stream without ever materializing it. Equal elements come in the order of their sources, so the
+ * merge is stable.
+ * <p>
+ * Performance: O(n log k), where n is the total number of elements
+ * Space: O(k) (streaming)
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/K-way_merge_algorithm">https://en.wikipedia.org/wiki/K-way_merge_algorithm</a>
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public final class KWayMerge {
+
+    private KWayMerge() {
+    }
+
+    /**
+     * merges sorted arrays into a new array
+     *
+     * @param arrays sorted arrays
+     * @return sorted array with all the elements of the arrays
+     */
+    public static int[] merge(int[]... arrays) {
+        int[] result = new int[checkedLength(totalLength(arrays))];
+        merge(arrays, new IntConsumer() {
+            private int k = 0;
+
+            @Override
+            public void accept(int v) {
+                result[k++] = v;
+            }
+        });
+        return result;
+    }
+
+    /**
+     * merges sorted arrays and passes the elements to the sink in ascending order
+     *
+     * @param arrays sorted arrays
+     * @param sink   consumer of the merged sequence
+     */
+    public static void merge(int[][] arrays, IntConsumer sink) {
+        Objects.requireNonNull(sink);
+        final int k = arrays.length;
+        if (k == 0) {
+            return;
+        }
+        // the key of a source is its current element in the high half and the source index in the low half,
+        // so a single comparison orders elements and breaks ties by the source. exhausted sources get MAX_VALUE
+        long[] keys = new long[k];
+        int[] pos = new int[k];
+        for (int s = 0; s < k; s++) {
+            keys[s] = key(arrays[s], 0, s);
+        }
+        int[] tree = new int[k];
+        tree[0] = build(keys, tree, 1);
+        for (long n = totalLength(arrays); n > 0; n--) {
+            int s = tree[0];
+            int[] a = arrays[s];
+            sink.accept(a[pos[s]]);
+            keys[s] = key(a, ++pos[s], s);
+            replay(keys, tree, s);
+        }
+    }
+
+    private static long key(int[] a, int pos, int s) {
+        return pos < a.length ? ((long) a[pos] << 32) | s : Long.MAX_VALUE;
+    }
+
+    /**
+     * plays all the matches of the subtree rooted at node t: tree[1..k-1] receive the losers, leaf s is
+     * node s + k
+     *
+     * @return winner of the subtree
+     */
+    private static int build(long[] keys, int[] tree, int t) {
+        final int k = tree.length;
+        if (t >= k) {
+            return t - k;
+        }
+        int left = build(keys, tree, 2 * t);
+        int right = build(keys, tree, 2 * t + 1);
+        if (keys[right] < keys[left]) {
+            tree[t] = left;
+            return right;
+        }
+        tree[t] = right;
+        return left;
+    }
+
+    /**
+     * replays the matches on the path from the leaf s to the root, tree[0] receives the new winner
+     */
+    private static void replay(long[] keys, int[] tree, int s) {
+        int winner = s;
+        long key = keys[s];
+        for (int t = (s + tree.length) >>> 1; t > 0; t >>>= 1) {
+            int other = tree[t];
+            if (keys[other] < key) {
+                tree[t] = winner;
+                winner = other;
+                key = keys[other];
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * merges sorted arrays into a new array
+     *
+     * @param arrays sorted arrays
+     * @return sorted array with all the elements of the arrays
+     */
+    public static long[] merge(long[]... arrays) {
+        long[] result = new long[checkedLength(totalLength(arrays))];
+        merge(arrays, new LongConsumer() {
+            private int k = 0;
+
+            @Override
+            public void accept(long v) {
+                result[k++] = v;
+            }
+        });
+        return result;
+    }
+
+    /**
+     * merges sorted arrays and passes the elements to the sink in ascending order
+     *
+     * @param arrays sorted arrays
+     * @param sink   consumer of the merged sequence
+     */
+    public static void merge(long[][] arrays, LongConsumer sink) {
+        Objects.requireNonNull(sink);
+        final int k = arrays.length;
+        if (k == 0) {
+            return;
+        }
+        // a long element doesn't leave room for the source index, so the sources are compared by
+        // (element, exhausted, index)
+        long[] heads = new long[k];
+        int[] pos = new int[k];
+        for (int s = 0; s < k; s++) {
+            if (arrays[s].length > 0) heads[s] = arrays[s][0];
+        }
+        int[] tree = new int[k];
+        tree[0] = build(arrays, heads, pos, tree, 1);
+        for (long n = totalLength(arrays); n > 0; n--) {
+            int s = tree[0];
+            long[] a = arrays[s];
+            sink.accept(heads[s]);
+            if (++pos[s] < a.length) heads[s] = a[pos[s]];
+            replay(arrays, heads, pos, tree, s);
+        }
+    }
+
+    private static int build(long[][] arrays, long[] heads, int[] pos, int[] tree, int t) {
+        final int k = tree.length;
+        if (t >= k) {
+            return t - k;
+        }
+        int left = build(arrays, heads, pos, tree, 2 * t);
+        int right = build(arrays, heads, pos, tree, 2 * t + 1);
+        if (beats(arrays, heads, pos, right, left)) {
+            tree[t] = left;
+            return right;
+        }
+        tree[t] = right;
+        return left;
+    }
+
+    private static void replay(long[][] arrays, long[] heads, int[] pos, int[] tree, int s) {
+        int winner = s;
+        for (int t = (s + tree.length) >>> 1; t > 0; t >>>= 1) {
+            int other = tree[t];
+            if (beats(arrays, heads, pos, other, winner)) {
+                tree[t] = winner;
+                winner = other;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * @return true if the current element of source a goes before the current element of source b. exhausted
+     * sources lose to everything
+     */
+    private static boolean beats(long[][] arrays, long[] heads, int[] pos, int a, int b) {
+        if (pos[b] == arrays[b].length) return pos[a] < arrays[a].length || a < b;
+        if (pos[a] == arrays[a].length) return false;
+        return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+    }
+
+    /**
+     * lazily merges sorted iterators by the natural order of their elements
+     *
+     * @param iterators sorted iterators, they are consumed as the result is
+     * @param <T>       type of the elements
+     * @return iterator over the merged sequence
+     */
+    public static <T extends Comparable<? super T>> Iterator<T> merge(List<? extends Iterator<? extends T>> iterators) {
+        return merge(iterators, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * lazily merges iterators sorted according to the comparator. stable: equal elements come in the order of
+     * their iterators in the list
+     *
+     * @param iterators sorted iterators, they are consumed as the result is
+     * @param c         comparator
+     * @param <T>       type of the elements
+     * @return iterator over the merged sequence
+     */
+    public static <T> Iterator<T> merge(List<? extends Iterator<? extends T>> iterators, Comparator<? super T> c) {
+        return new MergingIterator<>(iterators, Objects.requireNonNull(c));
+    }
+
+    private static long totalLength(int[][] arrays) {
+        long total = 0;
+        for (int[] a : arrays) total += a.length;
+        return total;
+    }
+
+    private static long totalLength(long[][] arrays) {
+        long total = 0;
+        for (long[] a : arrays) total += a.length;
+        return total;
+    }
+
+    private static int checkedLength(long total) {
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("merged array is too long: " + total);
+        }
+        return (int) total;
+    }
+
+    private static class MergingIterator<T> implements Iterator<T> {
+        private final Iterator<? extends T>[] sources;
+        private final Comparator<? super T> c;
+        // min-heap of source indices by their current elements, heap[0..size-1]
+        private final int[] heap;
+        private final Object[] heads;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        MergingIterator(List<? extends Iterator<? extends T>> iterators, Comparator<? super T> c) {
+            this.sources = (Iterator<? extends T>[]) iterators.toArray(new Iterator<?>[iterators.size()]);
+            this.c = c;
+            this.heap = new int[sources.length];
+            this.heads = new Object[sources.length];
+            for (int s = 0; s < sources.length; s++) {
+                if (sources[s].hasNext()) {
+                    heads[s] = sources[s].next();
+                    heap[size++] = s;
+                }
+            }
+            for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return size > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            int s = heap[0];
+            T result = (T) heads[s];
+            if (sources[s].hasNext()) {
+                heads[s] = sources[s].next();
+            } else {
+                heads[s] = null;
+                heap[0] = heap[--size];
+            }
+            siftDown(0);
+            return result;
+        }
+
+        private void siftDown(int i) {
+            int s = heap[i];
+            int child;
+            while ((child = 2 * i + 1) < size) {
+                if (child + 1 < size && less(heap[child + 1], heap[child])) child++;
+                if (!less(heap[child], s)) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = s;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean less(int a, int b) {
+            int cmp = c.compare((T) heads[a], (T) heads[b]);
+            return cmp < 0 || (cmp == 0 && a < b);
+        }
+    }
+}
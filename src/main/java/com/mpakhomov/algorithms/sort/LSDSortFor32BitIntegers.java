@@ -1,14 +1,21 @@
 package com.mpakhomov.algorithms.sort;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * LSD Radix sort for 32-bit integers
+ * <p>
+ * Bytes are treated as unsigned, so negative numbers end up after the positive ones. See {@link RadixSort}
+ * for a version that handles the sign and skips passes over constant bytes
  *
  * @author mpakhomov
  * @since 11/22/15
  */
 public class LSDSortFor32BitIntegers implements Sorting {
+
+    private static final int RADIX = 1 << 8; //256, 2 ^ 8
+
     /**
      * Breaks up 32-bit integer into 8-bit chunks (unsigned bytes), i.e each chunk is an integer within [0, 255]
      * <p>
@@ -67,11 +74,24 @@ public class LSDSortFor32BitIntegers implements Sorting {
      * @param a
      */
     public void sort(int[] a) {
-        final int radix = 1 << 8; //256, 2 ^ 8
-        final int N = a.length;
-        int[] aux = new int[N]; // auxiliary array
+        Objects.requireNonNull(a);
+        sort(a, new int[a.length], new int[RADIX + 1]);
+    }
 
+    /**
+     * the same as {@link #sort(int[])}, but takes the auxiliary array and the counts from the workspace
+     *
+     * @param a         array to be sorted
+     * @param workspace scratch space
+     */
+    public void sort(int[] a, SortWorkspace workspace) {
         Objects.requireNonNull(a);
+        sort(a, workspace.ints(0, a.length), workspace.ints(1, RADIX + 1));
+    }
+
+    private void sort(int[] a, int[] aux, int[] count) {
+        final int N = a.length;
+
         // empty array and a singleton array is already sorted
         if (a.length < 2) {
             return;
@@ -79,14 +99,14 @@ public class LSDSortFor32BitIntegers implements Sorting {
 
         // LSD starts with least significant byte
         for (int pos = 3; pos >= 0; pos--) {
-            int[] count = new int[radix + 1];
+            Arrays.fill(count, 0, RADIX + 1, 0);
 
             // count frequencies
             for (int i : a) {
                 count[getByte(i, pos) + 1]++;
             }
 
-            for (int r = 0; r < radix; r++) {
+            for (int r = 0; r < RADIX; r++) {
                 count[r + 1] += count[r];
             }
 
@@ -99,8 +119,23 @@ public class LSDSortFor32BitIntegers implements Sorting {
         }
     }
 
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public boolean isAllocationFree() {
+        return true;
+    }
+
     @Override
     public void instanceSort(int[] a) {
         sort(a);
     }
+
+    @Override
+    public void instanceSort(int[] a, SortWorkspace workspace) {
+        sort(a, workspace);
+    }
 }
@@ -1,10 +1,41 @@
 package com.mpakhomov.algorithms.sort;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
 /**
+ * Top-down merge sort.
+ * <p>
+ * Besides the textbook version there is an optimized one, see {@link #sortOptimized(int[])}. Use
+ * {@link #MergeSort(boolean)} to pick it through the {@link Sorting} interface.
+ * <p>
+ * Objects are sorted by the same optimized algorithm with a {@link Comparator}, see
+ * {@link #sort(Object[], Comparator)}. The sort is stable, so records can be sorted by several keys one after
+ * another.
+ *
  * @author mpakhomov
  * @since 8/26/2015
  */
-public class MergeSort implements Sorting {
+public class MergeSort implements Sorting, ObjectSorting {
+
+    /** subarrays of this size or smaller are sorted by binary insertion sort in the optimized version */
+    static final int CUTOFF = 16;
+
+    private final boolean optimized;
+
+    public MergeSort() {
+        this(false);
+    }
+
+    /**
+     * @param optimized if true, the instanceSort methods run the optimized algorithm, e.g. {@link #instanceSort(int[])}
+     *                  runs {@link #sortOptimized(int[])}, otherwise the textbook one, {@link #sort(int[])}
+     */
+    public MergeSort(boolean optimized) {
+        this.optimized = optimized;
+    }
 
     static public void sort(int[] a) {
         // create an auxiliary array to run merge step of the algorithm
@@ -12,6 +43,16 @@ public class MergeSort implements Sorting {
         sort(a, aux, 0, a.length - 1);
     }
 
+    /**
+     * the same as {@link #sort(int[])}, but takes the auxiliary array from the workspace
+     *
+     * @param a         array to be sorted
+     * @param workspace scratch space
+     */
+    static public void sort(int[] a, SortWorkspace workspace) {
+        sort(a, workspace.ints(0, a.length), 0, a.length - 1);
+    }
+
     static void sort(int[] a, int[] aux, int lo, int hi) {
         if (hi <= lo) return;
         int mid = (lo + hi) / 2;
@@ -34,8 +75,219 @@ public class MergeSort implements Sorting {
         }
     }
 
+    /**
+     * optimized version of merge sort (Robert Sedgewick, Kevin Wayne, Algorithms, Addison-Wesley, 2011):
+     * <p><ul>
+     * <li> tiny subarrays are sorted by {@link InsertionSort#binarySort(int[], int, int)} </li>
+     * <li> merge is skipped when the halves are already in order, i.e. a[mid] <= a[mid + 1]. sorted input
+     * takes linear time </li>
+     * <li> roles of the input and the auxiliary arrays are switched at each level of the recursion, so there is
+     * no copy to the auxiliary array before each merge </li>
+     * </ul>
+     *
+     * @param a array to be sorted
+     */
+    static public void sortOptimized(int[] a) {
+        int[] aux = a.clone();
+        sortOptimized(aux, a, 0, a.length - 1);
+    }
+
+    /**
+     * the same as {@link #sortOptimized(int[])}, but takes the auxiliary array from the workspace
+     *
+     * @param a         array to be sorted
+     * @param workspace scratch space
+     */
+    static public void sortOptimized(int[] a, SortWorkspace workspace) {
+        int[] aux = workspace.ints(0, a.length);
+        System.arraycopy(a, 0, aux, 0, a.length);
+        sortOptimized(aux, a, 0, a.length - 1);
+    }
+
+    /**
+     * sorts src[lo..hi] and puts the result to dst[lo..hi]. src[lo..hi] and dst[lo..hi] must be equal on entry,
+     * src[lo..hi] is garbage on exit
+     */
+    static void sortOptimized(int[] src, int[] dst, int lo, int hi) {
+        if (hi - lo < CUTOFF) {
+            InsertionSort.binarySort(dst, lo, hi);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // sort both halves of dst into src, then merge them back into dst
+        sortOptimized(dst, src, lo, mid);
+        sortOptimized(dst, src, mid + 1, hi);
+        if (src[mid] <= src[mid + 1]) {
+            System.arraycopy(src, lo, dst, lo, hi - lo + 1);
+            return;
+        }
+        mergeInto(src, dst, lo, mid, hi);
+    }
+
+    /**
+     * merges src[lo..mid] and src[mid+1..hi] into dst[lo..hi]. unlike {@link #merge(int[], int[], int, int, int)}
+     * it doesn't copy anything
+     */
+    static void mergeInto(int[] src, int[] dst, int lo, int mid, int hi) {
+        int i = lo, j = mid + 1;
+        for (int k = lo; k <= hi; k++) {
+            if (i > mid) dst[k] = src[j++];
+            else if (j > hi) dst[k] = src[i++];
+            else if (src[j] < src[i]) dst[k] = src[j++];
+            else dst[k] = src[i++];
+        }
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] by the optimized algorithm, the rest of the array is not touched.
+     * the auxiliary array is as long as the range, not as the whole array
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    static public void sort(int[] a, int fromIndex, int toIndex) {
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+        if (n < 2) return;
+        int[] aux = new int[n];
+        System.arraycopy(a, fromIndex, aux, 0, n);
+        sortRange(aux, a, fromIndex, fromIndex, toIndex - 1);
+    }
+
+    /**
+     * the same as {@link #sortOptimized(int[], int[], int, int)}, but src is shifted by base:
+     * dst[i] corresponds to src[i - base]
+     */
+    private static void sortRange(int[] src, int[] dst, int base, int lo, int hi) {
+        if (hi - lo < CUTOFF) {
+            InsertionSort.binarySort(dst, lo, hi);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // sort both halves of dst in place, then merge them through src
+        sortRange(src, dst, base, lo, mid);
+        sortRange(src, dst, base, mid + 1, hi);
+        if (dst[mid] <= dst[mid + 1]) return;
+        System.arraycopy(dst, lo, src, lo - base, hi - lo + 1);
+        int i = lo - base, iEnd = mid - base, j = mid + 1 - base, jEnd = hi - base;
+        for (int k = lo; k <= hi; k++) {
+            if (i > iEnd) dst[k] = src[j++];
+            else if (j > jEnd) dst[k] = src[i++];
+            else if (src[j] < src[i]) dst[k] = src[j++];
+            else dst[k] = src[i++];
+        }
+    }
+
+    /**
+     * sorts an array of objects according to the comparator. stable
+     *
+     * @param a   array to be sorted
+     * @param c   comparator
+     * @param <T> type of the elements
+     */
+    static public <T> void sort(T[] a, Comparator<? super T> c) {
+        sort(a, 0, a.length, c);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] according to the comparator, the rest of the array is not touched. stable
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     * @param c         comparator
+     * @param <T>       type of the elements
+     */
+    static public <T> void sort(T[] a, int fromIndex, int toIndex, Comparator<? super T> c) {
+        Objects.requireNonNull(c);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+        if (n < 2) return;
+        Object[] aux = new Object[n];
+        System.arraycopy(a, fromIndex, aux, 0, n);
+        sortRange(aux, a, fromIndex, fromIndex, toIndex - 1, c);
+    }
+
+    /**
+     * sorts a list according to the comparator. stable. the list is dumped to an array, sorted and written back,
+     * like {@link List#sort(Comparator)} does
+     *
+     * @param list list to be sorted
+     * @param c    comparator
+     * @param <T>  type of the elements
+     */
+    @SuppressWarnings("unchecked")
+    static public <T> void sort(List<T> list, Comparator<? super T> c) {
+        Object[] a = list.toArray();
+        sort(a, (Comparator<Object>) c);
+        ListIterator<T> it = list.listIterator();
+        for (Object e : a) {
+            it.next();
+            it.set((T) e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void sortRange(Object[] src, T[] dst, int base, int lo, int hi, Comparator<? super T> c) {
+        if (hi - lo < CUTOFF) {
+            InsertionSort.binarySort(dst, lo, hi, c);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        sortRange(src, dst, base, lo, mid, c);
+        sortRange(src, dst, base, mid + 1, hi, c);
+        if (c.compare(dst[mid], dst[mid + 1]) <= 0) return;
+        System.arraycopy(dst, lo, src, lo - base, hi - lo + 1);
+        int i = lo - base, iEnd = mid - base, j = mid + 1 - base, jEnd = hi - base;
+        for (int k = lo; k <= hi; k++) {
+            if (i > iEnd) dst[k] = (T) src[j++];
+            else if (j > jEnd) dst[k] = (T) src[i++];
+            else if (c.compare((T) src[j], (T) src[i]) < 0) dst[k] = (T) src[j++];
+            else dst[k] = (T) src[i++];
+        }
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public boolean isAllocationFree() {
+        return true;
+    }
+
+    @Override
+    public <T> void instanceSort(T[] a, Comparator<? super T> c) {
+        sort(a, c);
+    }
+
     @Override
     public void instanceSort(int[] a) {
-        sort(a);
+        if (optimized) {
+            sortOptimized(a);
+        } else {
+            sort(a);
+        }
+    }
+
+    @Override
+    public void instanceSort(int[] a, SortWorkspace workspace) {
+        if (optimized) {
+            sortOptimized(a, workspace);
+        } else {
+            sort(a, workspace);
+        }
+    }
+
+    @Override
+    public void instanceSort(int[] a, int fromIndex, int toIndex) {
+        if (optimized) {
+            sort(a, fromIndex, toIndex);
+        } else {
+            // the textbook version has no range variant of its own: the range is copied and sorted by sort(int[])
+            Sorting.super.instanceSort(a, fromIndex, toIndex);
+        }
     }
 }
@@ -0,0 +1,40 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sorting of objects (records) according to a comparator, e.g. rows sorted by a key column. Whether rows with equal
+ * keys keep their original order is told by {@link #isStable()}, so several passes by different keys, least
+ * significant first, can be chained on a stable implementation.
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public interface ObjectSorting {
+
+    /**
+     * sorts the array according to the comparator
+     *
+     * @param a   array to be sorted
+     * @param c   comparator
+     * @param <T> type of the elements
+     */
+    <T> void instanceSort(T[] a, Comparator<? super T> c);
+
+    /**
+     * sorts the records by an int key
+     *
+     * @param a   array to be sorted
+     * @param key extracts the key of a record
+     * @param <T> type of the elements
+     */
+    default <T> void sortByKey(T[] a, ToIntFunction<? super T> key) {
+        instanceSort(a, Comparator.comparingInt(key));
+    }
+
+    /**
+     * @return true if records with equal keys keep their original order
+     */
+    boolean isStable();
+}
@@ -0,0 +1,196 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static com.mpakhomov.algorithms.sort.SortUtil.chunkStart;
+import static com.mpakhomov.algorithms.sort.SortUtil.forEachChunk;
+
+/**
+ * Multi-threaded version of {@link CountingSort}. The array is split into chunks, one chunk per worker:
+ * <p><ul>
+ * <li> every worker finds the min and max of its chunk, if the range is not known </li>
+ * <li> every worker counts the values of its chunk in a histogram of its own, so there are no shared counters </li>
+ * <li> the histograms are summed up, every worker takes a slice of the range </li>
+ * <li> the array is rewritten from the counters, every worker takes a slice of the array. the slices end at the
+ * boundaries between values, so no two workers write to the same place </li>
+ * </ul>
+ * <p>
+ * A histogram per worker costs O(k) memory and an O(k) pass to sum it up, so the number of workers is limited to
+ * n / k: a range wider than the array is counted by fewer threads.
+ * <p>
+ * Performance: Work: O(n + p * k), Span: O(n / p + k)
+ * Space: O(p * k)
+ * Stable: yes, equal ints are indistinguishable and they are recreated from the counters
+ * Adaptive: no
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class ParallelCountingSort implements Sorting {
+
+    /** arrays shorter than that are processed by a single thread */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int parallelism;
+
+    /**
+     * sorter that runs in {@link ForkJoinPool#commonPool()}
+     */
+    public ParallelCountingSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool pool to run the workers in
+     */
+    public ParallelCountingSort(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+        this.parallelism = pool.getParallelism();
+    }
+
+    /**
+     * sorts an array of 32-bit integers, the range is found by a parallel pass over the array. if it's wider than
+     * {@link CountingSort#MAX_RANGE} or than {@link CountingSort#MAX_RANGE_PER_ELEMENT} times the length of the
+     * array, the array is sorted by {@link ParallelRadixSort} in the same pool
+     *
+     * @param a array to be sorted
+     */
+    public void sort(int[] a) {
+        Objects.requireNonNull(a);
+        if (a.length < 2) {
+            return;
+        }
+        final int n = a.length;
+        final int chunks = chunks(n);
+        int[] mins = new int[chunks];
+        int[] maxs = new int[chunks];
+        pool.invoke(ForkJoinTask.adapt(() -> forEachChunk(chunks, c -> {
+            int from = chunkStart(0, n, chunks, c);
+            int to = chunkStart(0, n, chunks, c + 1);
+            int min = a[from];
+            int max = a[from];
+            for (int i = from + 1; i < to; i++) {
+                int v = a[i];
+                if (v < min) min = v;
+                if (v > max) max = v;
+            }
+            mins[c] = min;
+            maxs[c] = max;
+        })));
+        int min = mins[0];
+        int max = maxs[0];
+        for (int c = 1; c < chunks; c++) {
+            min = Math.min(min, mins[c]);
+            max = Math.max(max, maxs[c]);
+        }
+        if (!CountingSort.isNarrow(min, max, n)) {
+            new ParallelRadixSort(pool, ParallelRadixSort.Mode.LSD).sort(a);
+            return;
+        }
+        sort(a, min, max);
+    }
+
+    /**
+     * sorts an array of 32-bit integers from a known range
+     *
+     * @param a   array to be sorted
+     * @param min the smallest value that may occur in the array
+     * @param max the largest value that may occur in the array
+     * @throws IllegalArgumentException if the range is wider than {@link CountingSort#MAX_RANGE} or a value is out
+     *                                  of it
+     */
+    public void sort(int[] a, int min, int max) {
+        Objects.requireNonNull(a);
+        long range = (long) max - min + 1;
+        if (range < 1 || range > CountingSort.MAX_RANGE) {
+            throw new IllegalArgumentException("range [" + min + ", " + max + "] is empty or wider than " +
+                    CountingSort.MAX_RANGE);
+        }
+        final int n = a.length;
+        final int k = (int) range;
+        // every chunk has to have at least k elements, otherwise its histogram costs more than counting
+        final int chunks = Math.max(1, Math.min(chunks(n), n / k));
+        if (chunks == 1) {
+            CountingSort.sort(a, min, max, null);
+            return;
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> count(a, min, k, chunks)));
+    }
+
+    private void count(int[] a, int min, int k, int chunks) {
+        final int n = a.length;
+        final int max = min + k - 1;
+        int[][] counts = new int[chunks][k];
+        forEachChunk(chunks, c -> {
+            int[] count = counts[c];
+            for (int i = chunkStart(0, n, chunks, c), end = chunkStart(0, n, chunks, c + 1); i < end; i++) {
+                int v = a[i];
+                if (v < min || v > max) {
+                    throw new IllegalArgumentException(v + " is out of [" + min + ", " + max + "]");
+                }
+                count[v - min]++;
+            }
+        });
+
+        // counts[0] becomes the total, every worker sums up a slice of the values
+        forEachChunk(chunks, c -> {
+            int[] total = counts[0];
+            for (int i = chunkStart(0, k, chunks, c), end = chunkStart(0, k, chunks, c + 1); i < end; i++) {
+                int sum = total[i];
+                for (int j = 1; j < chunks; j++) {
+                    sum += counts[j][i];
+                }
+                total[i] = sum;
+            }
+        });
+
+        // split the output into slices of about n / chunks elements at the boundaries between values:
+        // slice c is made of the values [firstValue[c], firstValue[c + 1]) and starts at firstPos[c]
+        int[] total = counts[0];
+        int[] firstValue = new int[chunks + 1];
+        int[] firstPos = new int[chunks + 1];
+        firstValue[chunks] = k;
+        firstPos[chunks] = n;
+        for (int i = 0, pos = 0, c = 1; i < k && c < chunks; i++) {
+            pos += total[i];
+            while (c < chunks && pos >= chunkStart(0, n, chunks, c)) {
+                firstValue[c] = i + 1;
+                firstPos[c] = pos;
+                c++;
+            }
+        }
+
+        forEachChunk(chunks, c -> {
+            int pos = firstPos[c];
+            for (int i = firstValue[c], end = firstValue[c + 1]; i < end; i++) {
+                int cnt = total[i];
+                if (cnt > 0) {
+                    Arrays.fill(a, pos, pos + cnt, min + i);
+                    pos += cnt;
+                }
+            }
+        });
+    }
+
+    /**
+     * @return number of chunks to split an array of length n into: one per worker, but not shorter than
+     * {@link #SEQUENTIAL_THRESHOLD}
+     */
+    private int chunks(int n) {
+        return Math.max(1, Math.min(parallelism, n / SEQUENTIAL_THRESHOLD));
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public void instanceSort(int[] a) {
+        sort(a);
+    }
+}
@@ -0,0 +1,240 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join version of {@link MergeSort}. The recursion of {@code sort(a, aux, lo, hi)} is split across
+ * a {@link ForkJoinPool} until a subarray gets smaller than the granularity threshold. Below the threshold
+ * subarrays are sorted by the sequential {@link MergeSort}.
+ * <p>
+ * Optionally, the merge step runs in parallel as well: take the median of the longer half, find its position
+ * in the other half with binary search, put it to its final place and merge the two resulting pairs of
+ * subarrays independently. Without it the top-level merge is a sequential O(n) pass and limits the speedup.
+ * <p>
+ * All tasks share a single auxiliary array, each task works on its own [lo, hi] range of it.
+ * <p>
+ * Performance: Work: O(n log n), Span: O(log^3 n) with parallel merge, O(n) without
+ * Space: O(n)
+ * Stable: yes
+ * Adaptive: no
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class ParallelMergeSort implements Sorting {
+
+    /** subarrays shorter than that are sorted and merged sequentially */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final boolean parallelMerge;
+
+    /**
+     * sorter that runs in {@link ForkJoinPool#commonPool()} with default threshold and parallel merge
+     */
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * sorter that runs in the given pool with default threshold and parallel merge
+     *
+     * @param pool pool to run the tasks in
+     */
+    public ParallelMergeSort(ForkJoinPool pool) {
+        this(pool, DEFAULT_THRESHOLD, true);
+    }
+
+    /**
+     * @param pool          pool to run the tasks in
+     * @param threshold     granularity: subarrays shorter than that are not split any further
+     * @param parallelMerge if true, merge the halves in parallel, otherwise use sequential merge
+     */
+    public ParallelMergeSort(ForkJoinPool pool, int threshold, boolean parallelMerge) {
+        this.pool = Objects.requireNonNull(pool);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold should be positive");
+        }
+        this.threshold = threshold;
+        this.parallelMerge = parallelMerge;
+    }
+
+    /**
+     * sorts an array of integers
+     *
+     * @param a array to be sorted
+     */
+    public void sort(int[] a) {
+        Objects.requireNonNull(a);
+        if (a.length < 2) {
+            return;
+        }
+        int[] aux = new int[a.length];
+        pool.invoke(new SortTask(a, aux, 0, a.length - 1));
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public void instanceSort(int[] a) {
+        sort(a);
+    }
+
+    private class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] a;
+        private final int[] aux;
+        private final int lo;
+        private final int hi;
+
+        SortTask(int[] a, int[] aux, int lo, int hi) {
+            this.a = a;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < threshold) {
+                MergeSort.sort(a, aux, lo, hi);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new SortTask(a, aux, lo, mid), new SortTask(a, aux, mid + 1, hi));
+            if (a[mid] <= a[mid + 1]) {
+                // halves are already in order
+                return;
+            }
+            if (parallelMerge) {
+                invokeAll(new CopyTask(a, aux, lo, hi));
+                invokeAll(new MergeTask(aux, a, lo, mid, mid + 1, hi, lo));
+            } else {
+                MergeSort.merge(a, aux, lo, mid, hi);
+            }
+        }
+    }
+
+    /**
+     * copies src[lo..hi] to dst[lo..hi] in parallel
+     */
+    private class CopyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int lo;
+        private final int hi;
+
+        CopyTask(int[] src, int[] dst, int lo, int hi) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < threshold) {
+                System.arraycopy(src, lo, dst, lo, hi - lo + 1);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new CopyTask(src, dst, lo, mid), new CopyTask(src, dst, mid + 1, hi));
+        }
+    }
+
+    /**
+     * merges sorted runs src[lo1..hi1] and src[lo2..hi2] into dst starting at dstLo. Either run may be empty
+     */
+    private class MergeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int dstLo;
+
+        MergeTask(int[] src, int[] dst, int lo1, int hi1, int lo2, int hi2, int dstLo) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dstLo = dstLo;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = hi1 - lo1 + 1;
+            int n2 = hi2 - lo2 + 1;
+            if (n1 + n2 <= threshold) {
+                mergeSequential(src, dst, lo1, hi1, lo2, hi2, dstLo);
+                return;
+            }
+            // split the longer run by its median. equal keys from the left run go first to keep the sort stable
+            if (n1 >= n2) {
+                int m1 = (lo1 + hi1) >>> 1;
+                int pivot = src[m1];
+                int m2 = lowerBound(src, lo2, hi2 + 1, pivot);
+                int k = dstLo + (m1 - lo1) + (m2 - lo2);
+                dst[k] = pivot;
+                invokeAll(new MergeTask(src, dst, lo1, m1 - 1, lo2, m2 - 1, dstLo),
+                        new MergeTask(src, dst, m1 + 1, hi1, m2, hi2, k + 1));
+            } else {
+                int m2 = (lo2 + hi2) >>> 1;
+                int pivot = src[m2];
+                int m1 = upperBound(src, lo1, hi1 + 1, pivot);
+                int k = dstLo + (m1 - lo1) + (m2 - lo2);
+                dst[k] = pivot;
+                invokeAll(new MergeTask(src, dst, lo1, m1 - 1, lo2, m2 - 1, dstLo),
+                        new MergeTask(src, dst, m1, hi1, m2 + 1, hi2, k + 1));
+            }
+        }
+    }
+
+    static void mergeSequential(int[] src, int[] dst, int lo1, int hi1, int lo2, int hi2, int k) {
+        int i = lo1, j = lo2;
+        while (i <= hi1 && j <= hi2) {
+            if (src[j] < src[i]) dst[k++] = src[j++];
+            else dst[k++] = src[i++];
+        }
+        if (i <= hi1) System.arraycopy(src, i, dst, k, hi1 - i + 1);
+        else if (j <= hi2) System.arraycopy(src, j, dst, k, hi2 - j + 1);
+    }
+
+    /**
+     * @return the first index in [lo, hi) such that a[index] >= key, or hi if there is no such index
+     */
+    static int lowerBound(int[] a, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * @return the first index in [lo, hi) such that a[index] > key, or hi if there is no such index
+     */
+    static int upperBound(int[] a, int lo, int hi, int key) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] <= key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
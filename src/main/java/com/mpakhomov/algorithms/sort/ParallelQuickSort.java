@@ -0,0 +1,124 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join version of {@link QuickSort}. A range is partitioned by the calling task, then the three parts are
+ * sorted by independent tasks. Ranges shorter than the granularity threshold are sorted by the sequential
+ * {@link QuickSort}.
+ * <p>
+ * Partitioning of the top-level range is a sequential O(n) pass, so the span is O(n) and the speedup is limited,
+ * but unlike {@link ParallelMergeSort} no auxiliary array is needed.
+ * <p>
+ * Performance: Work: O(n log n), Span: O(n)
+ * Space: O(log n)
+ * Stable: no
+ * Adaptive: no
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class ParallelQuickSort implements Sorting {
+
+    /** ranges shorter than that are sorted sequentially */
+    public static final int DEFAULT_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * sorter that runs in {@link ForkJoinPool#commonPool()} with default threshold
+     */
+    public ParallelQuickSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @param pool      pool to run the tasks in
+     * @param threshold granularity: ranges shorter than that are not split any further
+     */
+    public ParallelQuickSort(ForkJoinPool pool, int threshold) {
+        this.pool = Objects.requireNonNull(pool);
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold should be positive");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * sorts an array of integers
+     *
+     * @param a array to be sorted
+     */
+    public void sort(int[] a) {
+        Objects.requireNonNull(a);
+        sort(a, 0, a.length);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] in place, the rest of the array is not touched
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    public void sort(int[] a, int fromIndex, int toIndex) {
+        Objects.requireNonNull(a);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        int n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+        pool.invoke(new SortTask(a, fromIndex, toIndex - 1, QuickSort.depthLimit(n)));
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true;
+    }
+
+    @Override
+    public void instanceSort(int[] a) {
+        sort(a);
+    }
+
+    @Override
+    public void instanceSort(int[] a, int fromIndex, int toIndex) {
+        sort(a, fromIndex, toIndex);
+    }
+
+    private class SortTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] a;
+        private final int lo;
+        private final int hi;
+        private final int depth;
+
+        SortTask(int[] a, int lo, int hi, int depth) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            int[] bounds = new int[4];
+            if (hi - lo < Math.max(threshold, QuickSort.INSERTION_CUTOFF) || depth == 0) {
+                QuickSort.sort(a, lo, hi, depth, bounds);
+                return;
+            }
+            QuickSort.partition(a, lo, hi, bounds);
+            SortTask left = new SortTask(a, lo, bounds[0], depth - 1);
+            SortTask right = new SortTask(a, bounds[3], hi, depth - 1);
+            if (bounds[1] < bounds[2]) {
+                invokeAll(left, new SortTask(a, bounds[1], bounds[2], depth - 1), right);
+            } else {
+                invokeAll(left, right);
+            }
+        }
+    }
+}
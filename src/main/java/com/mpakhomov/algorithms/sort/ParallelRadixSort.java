@@ -0,0 +1,237 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static com.mpakhomov.algorithms.sort.SortUtil.chunkStart;
+import static com.mpakhomov.algorithms.sort.SortUtil.forEachChunk;
+
+/**
+ * Multi-threaded radix sort for 32-bit integers, 8 bits per digit.
+ * <p>
+ * Each pass over a range is split into chunks, one chunk per worker:
+ * <p><ul>
+ * <li> every worker builds a histogram of digits in its chunk </li>
+ * <li> histograms are combined into prefix sums: the elements of bucket b from chunk c go right after the elements
+ * of bucket b from chunk c - 1, which keeps the sort stable </li>
+ * <li> every worker scatters its chunk to the positions computed for it. chunks never write to the same place </li>
+ * </ul>
+ * <p>
+ * Two modes are supported:
+ * <p><ul>
+ * <li> {@link Mode#LSD}: four passes from the least significant byte to the most significant one, like
+ * {@link LSDSortFor32BitIntegers}. input and auxiliary arrays swap roles after each pass, so there is no copy back
+ * and histograms are allocated once </li>
+ * <li> {@link Mode#MSD}: the most significant byte first, then each bucket is sorted independently by the next byte,
+ * buckets run in parallel. buckets that fit into a cache are finished by a sequential LSD sort of the remaining bytes,
+ * tiny buckets by {@link SortingNetwork} </li>
+ * </ul>
+ * <p>
+ * Unlike {@link LSDSortFor32BitIntegers} it sorts negative numbers correctly: the sign bit of the most significant
+ * byte is flipped, so negative numbers go to the lower buckets.
+ * <p>
+ * Performance: O(n)
+ * Space: O(n)
+ * Stable: yes
+ * Adaptive: no
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class ParallelRadixSort implements Sorting {
+
+    public enum Mode { LSD, MSD }
+
+    static final int BITS_PER_DIGIT = 8;
+    static final int RADIX = 1 << BITS_PER_DIGIT;
+    static final int MASK = RADIX - 1;
+    static final int TOP_SHIFT = Integer.SIZE - BITS_PER_DIGIT;
+
+    /** ranges shorter than that are processed by a single thread */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    /** MSD: buckets shorter than that (64 KB of ints) fit into L2 cache and are finished by sequential LSD */
+    static final int CACHE_CUTOFF = 1 << 14;
+
+    /** MSD: buckets of this size or smaller are finished by a sorting network */
+    static final int INSERTION_CUTOFF = 32;
+
+    private final ForkJoinPool pool;
+    private final Mode mode;
+    private final int parallelism;
+
+    /**
+     * LSD sorter that runs in {@link ForkJoinPool#commonPool()}
+     */
+    public ParallelRadixSort() {
+        this(ForkJoinPool.commonPool(), Mode.LSD);
+    }
+
+    /**
+     * @param pool pool to run the workers in
+     * @param mode LSD or MSD
+     */
+    public ParallelRadixSort(ForkJoinPool pool, Mode mode) {
+        this.pool = Objects.requireNonNull(pool);
+        this.mode = Objects.requireNonNull(mode);
+        this.parallelism = pool.getParallelism();
+    }
+
+    /**
+     * sorts an array of 32-bit integers
+     *
+     * @param a array to be sorted
+     */
+    public void sort(int[] a) {
+        Objects.requireNonNull(a);
+        if (a.length < 2) {
+            return;
+        }
+        int[] aux = new int[a.length];
+        if (mode == Mode.LSD) {
+            pool.invoke(ForkJoinTask.adapt(() -> lsd(a, aux)));
+        } else {
+            pool.invoke(ForkJoinTask.adapt(() -> msd(a, aux, a, a, 0, a.length, TOP_SHIFT)));
+        }
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public void instanceSort(int[] a) {
+        sort(a);
+    }
+
+    private void lsd(int[] a, int[] aux) {
+        final int n = a.length;
+        int[][] counts = new int[chunks(n)][RADIX];
+        int[] src = a;
+        int[] dst = aux;
+        for (int shift = 0; shift <= TOP_SHIFT; shift += BITS_PER_DIGIT) {
+            pass(src, dst, 0, n, shift, counts, null);
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+        // even number of passes: the result is back in a
+    }
+
+    /**
+     * sorts src[lo..hi-1] by the digit at shift and all the lower digits, the result goes to dst[lo..hi-1].
+     * src and dst are either the same array or a and aux. the other array is used as a scratch space
+     */
+    private void msd(int[] a, int[] aux, int[] src, int[] dst, int lo, int hi, int shift) {
+        final int n = hi - lo;
+        if (n <= INSERTION_CUTOFF) {
+            // all the elements share the higher digits, including the sign, so int comparison is fine
+            if (src != dst) System.arraycopy(src, lo, dst, lo, n);
+            SortingNetwork.sort(dst, lo, hi - 1);
+            return;
+        }
+        if (n <= CACHE_CUTOFF) {
+            lsdRange(a, aux, src, dst, lo, hi, shift);
+            return;
+        }
+
+        int[] other = src == a ? aux : a;
+        int[] bucketStart = new int[RADIX + 1];
+        pass(src, other, lo, hi, shift, new int[chunks(n)][RADIX], bucketStart);
+        if (shift == 0) {
+            if (other != dst) System.arraycopy(other, lo, dst, lo, n);
+            return;
+        }
+
+        final int nextShift = shift - BITS_PER_DIGIT;
+        if (n < SEQUENTIAL_THRESHOLD) {
+            for (int b = 0; b < RADIX; b++) {
+                if (bucketStart[b + 1] > bucketStart[b]) {
+                    msd(a, aux, other, dst, bucketStart[b], bucketStart[b + 1], nextShift);
+                }
+            }
+        } else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int b = 0; b < RADIX; b++) {
+                final int from = bucketStart[b];
+                final int to = bucketStart[b + 1];
+                if (to > from) {
+                    tasks.add(ForkJoinTask.adapt(() -> msd(a, aux, other, dst, from, to, nextShift)));
+                }
+            }
+            ForkJoinTask.invokeAll(tasks);
+        }
+    }
+
+    /**
+     * sequential LSD sort of src[lo..hi-1] by the digits from 0 up to topShift, the result goes to dst[lo..hi-1]
+     */
+    private void lsdRange(int[] a, int[] aux, int[] src, int[] dst, int lo, int hi, int topShift) {
+        int[][] counts = new int[1][RADIX];
+        int[] from = src;
+        int[] to = src == a ? aux : a;
+        for (int shift = 0; shift <= topShift; shift += BITS_PER_DIGIT) {
+            pass(from, to, lo, hi, shift, counts, null);
+            int[] tmp = from;
+            from = to;
+            to = tmp;
+        }
+        if (from != dst) System.arraycopy(from, lo, dst, lo, hi - lo);
+    }
+
+    /**
+     * one counting sort pass: scatters src[lo..hi-1] to dst[lo..hi-1] by the digit at shift.
+     * the range is split into counts.length chunks that are processed in parallel
+     *
+     * @param counts      one histogram per chunk, overwritten
+     * @param bucketStart if not null, receives the boundaries of the buckets in dst:
+     *                    bucket b is dst[bucketStart[b]..bucketStart[b + 1] - 1]
+     */
+    private void pass(int[] src, int[] dst, int lo, int hi, int shift, int[][] counts, int[] bucketStart) {
+        final int n = hi - lo;
+        final int chunks = counts.length;
+        final int flip = shift == TOP_SHIFT ? RADIX >>> 1 : 0;
+
+        forEachChunk(chunks, c -> {
+            int[] count = counts[c];
+            Arrays.fill(count, 0);
+            for (int i = chunkStart(lo, n, chunks, c), end = chunkStart(lo, n, chunks, c + 1); i < end; i++) {
+                count[((src[i] >>> shift) & MASK) ^ flip]++;
+            }
+        });
+
+        // prefix sums, bucket by bucket, chunk by chunk. counts[c][b] becomes the first position of bucket b
+        // for chunk c
+        int offset = lo;
+        for (int b = 0; b < RADIX; b++) {
+            if (bucketStart != null) bucketStart[b] = offset;
+            for (int c = 0; c < chunks; c++) {
+                int count = counts[c][b];
+                counts[c][b] = offset;
+                offset += count;
+            }
+        }
+        if (bucketStart != null) bucketStart[RADIX] = hi;
+
+        forEachChunk(chunks, c -> {
+            int[] next = counts[c];
+            for (int i = chunkStart(lo, n, chunks, c), end = chunkStart(lo, n, chunks, c + 1); i < end; i++) {
+                int v = src[i];
+                dst[next[((v >>> shift) & MASK) ^ flip]++] = v;
+            }
+        });
+    }
+
+    /**
+     * @return number of chunks to split a range of length n into: one per worker, but not shorter than
+     * {@link #SEQUENTIAL_THRESHOLD}
+     */
+    private int chunks(int n) {
+        return Math.max(1, Math.min(parallelism, n / SEQUENTIAL_THRESHOLD));
+    }
+}
@@ -0,0 +1,263 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Objects;
+
+/**
+ * Introspective dual-pivot quicksort for 32-bit integers.
+ * <p>
+ * <ul>
+ * <li> five elements are sampled at the positions around the middle of the range and sorted. if the 2nd and the 4th
+ * ones differ, they become pivots p < q and the range is split into three parts: < p, [p, q] and > q
+ * (Vladimir Yaroslavskiy). if the middle part is too large, elements equal to the pivots are squeezed out of it </li>
+ * <li> if the 2nd and the 4th samples are equal, the range has a lot of duplicates and it's split into three parts
+ * around the 3rd sample: < v, == v and > v (Dijkstra's 3-way partitioning). the middle part is done </li>
+ * <li> ranges shorter than {@link #INSERTION_CUTOFF} are sorted by a branchless {@link SortingNetwork} </li>
+ * <li> the recursion depth is limited by 2 * log2(n). a range that gets deeper is sorted by heap sort, so the
+ * worst case is O(n log n) and the stack is O(log n) deep (David Musser, Introspective Sorting and Selection
+ * Algorithms) </li>
+ * </ul>
+ * <p>
+ * Performance: Average: O(n log n), Best: O(n log n), Worst: O(n log n)
+ * Space: O(log n)
+ * Stable: no
+ * Adaptive: no
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Introsort">https://en.wikipedia.org/wiki/Introsort</a>
+ * @see ParallelQuickSort
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class QuickSort implements Sorting {
+
+    /** ranges shorter than that are sorted by a sorting network, must not exceed {@link SortingNetwork#MAX_SIZE} */
+    static final int INSERTION_CUTOFF = 32;
+
+    /**
+     * sorts an array of 32-bit integers
+     *
+     * @param a array to be sorted
+     */
+    static public void sort(int[] a) {
+        Objects.requireNonNull(a);
+        sort(a, 0, a.length - 1, depthLimit(a.length), new int[4]);
+    }
+
+    /**
+     * the same as {@link #sort(int[])}, but takes the scratch array of the partitioning from the workspace
+     *
+     * @param a         array to be sorted
+     * @param workspace scratch space
+     */
+    static public void sort(int[] a, SortWorkspace workspace) {
+        Objects.requireNonNull(a);
+        Objects.requireNonNull(workspace);
+        sort(a, 0, a.length - 1, depthLimit(a.length), workspace.ints(0, 4));
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] in place, the rest of the array is not touched
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    static public void sort(int[] a, int fromIndex, int toIndex) {
+        Objects.requireNonNull(a);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        sort(a, fromIndex, toIndex - 1, depthLimit(toIndex - fromIndex), new int[4]);
+    }
+
+    /**
+     * @return max recursion depth for a range of length n: 2 * floor(log2(n))
+     */
+    static int depthLimit(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n | 1));
+    }
+
+    /**
+     * sorts a[lo..hi]
+     *
+     * @param depth  remaining recursion depth, heap sort takes over when it gets to zero
+     * @param bounds scratch array for {@link #partition(int[], int, int, int[])}, shared by the whole recursion
+     */
+    static void sort(int[] a, int lo, int hi, int depth, int[] bounds) {
+        if (hi - lo < INSERTION_CUTOFF) {
+            SortingNetwork.sort(a, lo, hi);
+            return;
+        }
+        if (depth == 0) {
+            heapSort(a, lo, hi);
+            return;
+        }
+        partition(a, lo, hi, bounds);
+        int leftHi = bounds[0], midLo = bounds[1], midHi = bounds[2], rightLo = bounds[3];
+        sort(a, lo, leftHi, depth - 1, bounds);
+        if (midLo < midHi) sort(a, midLo, midHi, depth - 1, bounds);
+        sort(a, rightLo, hi, depth - 1, bounds);
+    }
+
+    /**
+     * partitions a[lo..hi], hi - lo must be at least {@link #INSERTION_CUTOFF}. on exit the parts that still have
+     * to be sorted are a[lo..bounds[0]], a[bounds[1]..bounds[2]] (empty if bounds[1] > bounds[2]) and
+     * a[bounds[3]..hi]. every element of a part is not greater than any element of the next part
+     */
+    static void partition(int[] a, int lo, int hi, int[] bounds) {
+        // five samples around the middle, about 1/7 of the range apart
+        int length = hi - lo + 1;
+        int seventh = (length >> 3) + (length >> 6) + 1;
+        int e3 = (lo + hi) >>> 1;
+        int e2 = e3 - seventh;
+        int e1 = e2 - seventh;
+        int e4 = e3 + seventh;
+        int e5 = e4 + seventh;
+        sort5(a, e1, e2, e3, e4, e5);
+
+        if (a[e2] == a[e4]) {
+            partition3Way(a, lo, hi, a[e3], bounds);
+            return;
+        }
+
+        int p = a[e2];
+        int q = a[e4];
+        // pivots go to the ends of the range, they are put to their final places at the end
+        swap(a, e2, lo);
+        swap(a, e4, hi);
+
+        // invariant: a[lo+1..lt-1] < p, p <= a[lt..k-1] <= q, a[gt+1..hi-1] > q, a[k..gt] unknown
+        int lt = lo + 1;
+        int gt = hi - 1;
+        for (int k = lt; k <= gt; k++) {
+            int x = a[k];
+            if (x < p) {
+                swap(a, k, lt++);
+            } else if (x > q) {
+                while (a[gt] > q && k < gt) gt--;
+                swap(a, k, gt--);
+                if (a[k] < p) swap(a, k, lt++);
+            }
+        }
+        lt--;
+        gt++;
+        swap(a, lo, lt);
+        swap(a, hi, gt);
+        // a[lt] == p, a[gt] == q are in their final places
+
+        int midLo = lt + 1;
+        int midHi = gt - 1;
+        if (lt < e1 && e5 < gt) {
+            // the middle part is large, probably there are lots of elements equal to the pivots.
+            // move them to the ends of the middle part, they are in their final places too
+            for (int k = midLo; k <= midHi; ) {
+                int x = a[k];
+                if (x == p) {
+                    swap(a, k++, midLo++);
+                } else if (x == q) {
+                    swap(a, k, midHi--);
+                } else {
+                    k++;
+                }
+            }
+        }
+        bounds[0] = lt - 1;
+        bounds[1] = midLo;
+        bounds[2] = midHi;
+        bounds[3] = gt + 1;
+    }
+
+    /**
+     * Dijkstra's 3-way partitioning of a[lo..hi] around v: a[lo..lt-1] < v, a[lt..gt] == v, a[gt+1..hi] > v
+     */
+    private static void partition3Way(int[] a, int lo, int hi, int v, int[] bounds) {
+        int lt = lo, gt = hi;
+        for (int i = lo; i <= gt; ) {
+            int x = a[i];
+            if (x < v) swap(a, lt++, i++);
+            else if (x > v) swap(a, i, gt--);
+            else i++;
+        }
+        bounds[0] = lt - 1;
+        bounds[1] = lt;
+        bounds[2] = lt - 1; // nothing to sort in the middle
+        bounds[3] = gt + 1;
+    }
+
+    /**
+     * sorts the elements at the given positions with a 9 comparator sorting network
+     */
+    private static void sort5(int[] a, int e1, int e2, int e3, int e4, int e5) {
+        compareAndSwap(a, e1, e2);
+        compareAndSwap(a, e4, e5);
+        compareAndSwap(a, e3, e5);
+        compareAndSwap(a, e3, e4);
+        compareAndSwap(a, e1, e4);
+        compareAndSwap(a, e1, e3);
+        compareAndSwap(a, e2, e5);
+        compareAndSwap(a, e2, e4);
+        compareAndSwap(a, e2, e3);
+    }
+
+    private static void compareAndSwap(int[] a, int i, int j) {
+        if (a[j] < a[i]) swap(a, i, j);
+    }
+
+    /**
+     * sorts a[lo..hi] by heap sort: a max-heap is built in place, then its root is moved to the end one by one
+     */
+    static void heapSort(int[] a, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int i = (n >>> 1) - 1; i >= 0; i--) {
+            siftDown(a, lo, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(a, lo, lo + end);
+            siftDown(a, lo, 0, end);
+        }
+    }
+
+    /**
+     * restores the max-heap property of the heap a[lo..lo+n-1] for the node i (relative to lo)
+     */
+    private static void siftDown(int[] a, int lo, int i, int n) {
+        int v = a[lo + i];
+        int child;
+        while ((child = 2 * i + 1) < n) {
+            if (child + 1 < n && a[lo + child + 1] > a[lo + child]) child++;
+            if (a[lo + child] <= v) break;
+            a[lo + i] = a[lo + child];
+            i = child;
+        }
+        a[lo + i] = v;
+    }
+
+    private static void swap(int[] a, int i, int j) {
+        int tmp = a[i];
+        a[i] = a[j];
+        a[j] = tmp;
+    }
+
+    @Override
+    public boolean isInPlace() {
+        return true;
+    }
+
+    @Override
+    public boolean isAllocationFree() {
+        return true;
+    }
+
+    @Override
+    public void instanceSort(int[] a) {
+        sort(a);
+    }
+
+    @Override
+    public void instanceSort(int[] a, SortWorkspace workspace) {
+        sort(a, workspace);
+    }
+
+    @Override
+    public void instanceSort(int[] a, int fromIndex, int toIndex) {
+        sort(a, fromIndex, toIndex);
+    }
+}
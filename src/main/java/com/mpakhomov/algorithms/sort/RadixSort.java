@@ -0,0 +1,688 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Objects;
+
+/**
+ * LSD radix sort for primitive keys: int, long, float, double, short and char. 8 bits per digit.
+ * <p>
+ * Compared to {@link LSDSortFor32BitIntegers}:
+ * <p><ul>
+ * <li> the order is correct for negative numbers. every key is mapped to an unsigned one on the fly:
+ * integers get their sign bit flipped, floating point numbers get the sign bit flipped when positive and all the
+ * bits flipped when negative, which turns IEEE 754 ordering into unsigned integer ordering </li>
+ * <li> histograms for all the digits are computed in a single pre-pass over the input </li>
+ * <li> a pass is skipped when all the keys have the same digit, i.e. one bucket holds every element. for small
+ * non-negative ints the upper bytes are all the same, so half of the passes or more are skipped </li>
+ * <li> input and auxiliary arrays swap roles after each pass, the auxiliary array is allocated only when
+ * at least one pass is needed </li>
+ * </ul>
+ * <p>
+ * Every primitive type has a range variant that sorts a slice of the array in place, the auxiliary array is
+ * as long as the slice.
+ * <p>
+ * For int keys there are key/payload variants that move a parallel array along with the keys, and
+ * {@link #argsort(int[])} that returns the sorting permutation and leaves the keys alone.
+ * <p>
+ * Floating point numbers are sorted in the same order as {@link java.util.Arrays#sort(double[])}:
+ * -Infinity < -0.0 < 0.0 < Infinity < NaN.
+ * <p>
+ * Performance: O(w * n), w is the number of bytes in the key
+ * Space: O(n)
+ * Stable: yes
+ * Adaptive: no, but skips passes over constant digits
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class RadixSort implements Sorting, DoubleSorting {
+
+    static final int BITS_PER_DIGIT = 8;
+    static final int RADIX = 1 << BITS_PER_DIGIT;
+    static final int MASK = RADIX - 1;
+
+    /**
+     * sorts an array of 32-bit integers
+     *
+     * @param a array to be sorted
+     */
+    public static void sort(int[] a) {
+        Objects.requireNonNull(a);
+        sortRange(a, 0, a.length, null);
+    }
+
+    /**
+     * the same as {@link #sort(int[])}, but takes the auxiliary array and the histograms from the workspace
+     *
+     * @param a         array to be sorted
+     * @param workspace scratch space
+     */
+    public static void sort(int[] a, SortWorkspace workspace) {
+        Objects.requireNonNull(a);
+        sortRange(a, 0, a.length, workspace);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] in place, the rest of the array is not touched
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    public static void sort(int[] a, int fromIndex, int toIndex) {
+        Objects.requireNonNull(a);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        sortRange(a, fromIndex, toIndex, null);
+    }
+
+    private static void sortRange(int[] a, int fromIndex, int toIndex, SortWorkspace workspace) {
+        final int n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+        final int digits = Integer.SIZE / BITS_PER_DIGIT;
+
+        int[][] count = workspace == null ? new int[digits][RADIX] : workspace.histograms(digits, RADIX);
+        for (int i = fromIndex; i < toIndex; i++) {
+            int key = intKey(a[i]);
+            for (int d = 0; d < digits; d++) {
+                count[d][(key >>> (d * BITS_PER_DIGIT)) & MASK]++;
+            }
+        }
+
+        // the elements are in src[srcBase..srcBase+n-1], a pass moves them to dst[dstBase..dstBase+n-1]
+        int[] src = a;
+        int[] dst = null;
+        int srcBase = fromIndex;
+        int dstBase = 0;
+        for (int d = 0; d < digits; d++) {
+            final int shift = d * BITS_PER_DIGIT;
+            if (isTrivialPass(count[d], (intKey(src[srcBase]) >>> shift) & MASK, n)) {
+                continue;
+            }
+            if (dst == null) dst = workspace == null ? new int[n] : workspace.ints(0, n);
+            int[] next = count[d];
+            toStartPositions(next);
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                int v = src[i];
+                dst[dstBase + next[(intKey(v) >>> shift) & MASK]++] = v;
+            }
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+        if (src != a) System.arraycopy(src, srcBase, a, fromIndex, n);
+    }
+
+    /**
+     * sorts keys and moves payload[i] along with keys[i], e.g. sorts the rows of a columnar table by one column.
+     * the sort is stable: payloads of equal keys keep their relative order
+     *
+     * @param keys    keys to be sorted
+     * @param payload values attached to the keys, must have the same length
+     */
+    public static void sort(int[] keys, int[] payload) {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(payload);
+        checkSameLength(keys.length, payload.length);
+        final int n = keys.length;
+        if (n < 2) {
+            return;
+        }
+        final int digits = Integer.SIZE / BITS_PER_DIGIT;
+        int[][] count = intHistograms(keys, new int[digits][RADIX]);
+
+        int[] src = keys;
+        int[] srcPayload = payload;
+        int[] dst = null;
+        int[] dstPayload = null;
+        for (int d = 0; d < digits; d++) {
+            final int shift = d * BITS_PER_DIGIT;
+            if (isTrivialPass(count[d], (intKey(src[0]) >>> shift) & MASK, n)) {
+                continue;
+            }
+            if (dst == null) {
+                dst = new int[n];
+                dstPayload = new int[n];
+            }
+            int[] next = count[d];
+            toStartPositions(next);
+            for (int i = 0; i < n; i++) {
+                int v = src[i];
+                int pos = next[(intKey(v) >>> shift) & MASK]++;
+                dst[pos] = v;
+                dstPayload[pos] = srcPayload[i];
+            }
+            int[] tmp = src;
+            src = dst;
+            dst = tmp;
+            tmp = srcPayload;
+            srcPayload = dstPayload;
+            dstPayload = tmp;
+        }
+        if (src != keys) {
+            System.arraycopy(src, 0, keys, 0, n);
+            System.arraycopy(srcPayload, 0, payload, 0, n);
+        }
+    }
+
+    /**
+     * same as {@link #sort(int[], int[])}, but for long payloads. keys are sorted along with their indices,
+     * then the payload is permuted in a single gather pass
+     *
+     * @param keys    keys to be sorted
+     * @param payload values attached to the keys, must have the same length
+     */
+    public static void sort(int[] keys, long[] payload) {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(payload);
+        checkSameLength(keys.length, payload.length);
+        int[] perm = identity(keys.length);
+        sort(keys, perm);
+        long[] sorted = new long[payload.length];
+        for (int i = 0; i < perm.length; i++) {
+            sorted[i] = payload[perm[i]];
+        }
+        System.arraycopy(sorted, 0, payload, 0, sorted.length);
+    }
+
+    /**
+     * same as {@link #sort(int[], int[])}, but for object payloads, e.g. records sorted by an int field.
+     * no boxing and no {@link java.util.Comparator}
+     *
+     * @param keys    keys to be sorted
+     * @param payload values attached to the keys, must have the same length
+     * @param <T>     type of the payload
+     */
+    public static <T> void sort(int[] keys, T[] payload) {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(payload);
+        checkSameLength(keys.length, payload.length);
+        int[] perm = identity(keys.length);
+        sort(keys, perm);
+        Object[] sorted = new Object[payload.length];
+        for (int i = 0; i < perm.length; i++) {
+            sorted[i] = payload[perm[i]];
+        }
+        System.arraycopy(sorted, 0, payload, 0, sorted.length);
+    }
+
+    /**
+     * computes the sorting permutation without touching the input: keys[perm[0]] <= keys[perm[1]] <= ...
+     * the permutation is stable, equal keys are ordered by their index
+     *
+     * @param keys keys, left unchanged
+     * @return permutation of indices 0..keys.length-1 that sorts keys
+     */
+    public static int[] argsort(int[] keys) {
+        Objects.requireNonNull(keys);
+        int[] perm = identity(keys.length);
+        sort(keys.clone(), perm);
+        return perm;
+    }
+
+    /**
+     * sorts an array of 64-bit integers
+     *
+     * @param a array to be sorted
+     */
+    public static void sort(long[] a) {
+        Objects.requireNonNull(a);
+        sortRange(a, 0, a.length, null);
+    }
+
+    /**
+     * the same as {@link #sort(long[])}, but takes the auxiliary array and the histograms from the workspace
+     *
+     * @param a         array to be sorted
+     * @param workspace scratch space
+     */
+    public static void sort(long[] a, SortWorkspace workspace) {
+        Objects.requireNonNull(a);
+        sortRange(a, 0, a.length, workspace);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] in place, the rest of the array is not touched
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    public static void sort(long[] a, int fromIndex, int toIndex) {
+        Objects.requireNonNull(a);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        sortRange(a, fromIndex, toIndex, null);
+    }
+
+    private static void sortRange(long[] a, int fromIndex, int toIndex, SortWorkspace workspace) {
+        final int n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+        final int digits = Long.SIZE / BITS_PER_DIGIT;
+
+        int[][] count = workspace == null ? new int[digits][RADIX] : workspace.histograms(digits, RADIX);
+        for (int i = fromIndex; i < toIndex; i++) {
+            long key = longKey(a[i]);
+            for (int d = 0; d < digits; d++) {
+                count[d][(int) (key >>> (d * BITS_PER_DIGIT)) & MASK]++;
+            }
+        }
+
+        // the elements are in src[srcBase..srcBase+n-1], a pass moves them to dst[dstBase..dstBase+n-1]
+        long[] src = a;
+        long[] dst = null;
+        int srcBase = fromIndex;
+        int dstBase = 0;
+        for (int d = 0; d < digits; d++) {
+            final int shift = d * BITS_PER_DIGIT;
+            if (isTrivialPass(count[d], (int) (longKey(src[srcBase]) >>> shift) & MASK, n)) {
+                continue;
+            }
+            if (dst == null) dst = workspace == null ? new long[n] : workspace.longs(0, n);
+            int[] next = count[d];
+            toStartPositions(next);
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                long v = src[i];
+                dst[dstBase + next[(int) (longKey(v) >>> shift) & MASK]++] = v;
+            }
+            long[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+        if (src != a) System.arraycopy(src, srcBase, a, fromIndex, n);
+    }
+
+    /**
+     * sorts an array of floats
+     *
+     * @param a array to be sorted
+     */
+    public static void sort(float[] a) {
+        Objects.requireNonNull(a);
+        sortRange(a, 0, a.length);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] in place, the rest of the array is not touched
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    public static void sort(float[] a, int fromIndex, int toIndex) {
+        Objects.requireNonNull(a);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        sortRange(a, fromIndex, toIndex);
+    }
+
+    private static void sortRange(float[] a, int fromIndex, int toIndex) {
+        final int n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+        final int digits = Integer.SIZE / BITS_PER_DIGIT;
+
+        int[][] count = new int[digits][RADIX];
+        for (int i = fromIndex; i < toIndex; i++) {
+            int key = floatKey(a[i]);
+            for (int d = 0; d < digits; d++) {
+                count[d][(key >>> (d * BITS_PER_DIGIT)) & MASK]++;
+            }
+        }
+
+        // the elements are in src[srcBase..srcBase+n-1], a pass moves them to dst[dstBase..dstBase+n-1]
+        float[] src = a;
+        float[] dst = null;
+        int srcBase = fromIndex;
+        int dstBase = 0;
+        for (int d = 0; d < digits; d++) {
+            final int shift = d * BITS_PER_DIGIT;
+            if (isTrivialPass(count[d], (floatKey(src[srcBase]) >>> shift) & MASK, n)) {
+                continue;
+            }
+            if (dst == null) dst = new float[n];
+            int[] next = count[d];
+            toStartPositions(next);
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                float v = src[i];
+                dst[dstBase + next[(floatKey(v) >>> shift) & MASK]++] = v;
+            }
+            float[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+        if (src != a) System.arraycopy(src, srcBase, a, fromIndex, n);
+    }
+
+    /**
+     * sorts an array of doubles
+     *
+     * @param a array to be sorted
+     */
+    public static void sort(double[] a) {
+        Objects.requireNonNull(a);
+        sortRange(a, 0, a.length);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] in place, the rest of the array is not touched
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    public static void sort(double[] a, int fromIndex, int toIndex) {
+        Objects.requireNonNull(a);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        sortRange(a, fromIndex, toIndex);
+    }
+
+    private static void sortRange(double[] a, int fromIndex, int toIndex) {
+        final int n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+        final int digits = Long.SIZE / BITS_PER_DIGIT;
+
+        int[][] count = new int[digits][RADIX];
+        for (int i = fromIndex; i < toIndex; i++) {
+            long key = doubleKey(a[i]);
+            for (int d = 0; d < digits; d++) {
+                count[d][(int) (key >>> (d * BITS_PER_DIGIT)) & MASK]++;
+            }
+        }
+
+        // the elements are in src[srcBase..srcBase+n-1], a pass moves them to dst[dstBase..dstBase+n-1]
+        double[] src = a;
+        double[] dst = null;
+        int srcBase = fromIndex;
+        int dstBase = 0;
+        for (int d = 0; d < digits; d++) {
+            final int shift = d * BITS_PER_DIGIT;
+            if (isTrivialPass(count[d], (int) (doubleKey(src[srcBase]) >>> shift) & MASK, n)) {
+                continue;
+            }
+            if (dst == null) dst = new double[n];
+            int[] next = count[d];
+            toStartPositions(next);
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                double v = src[i];
+                dst[dstBase + next[(int) (doubleKey(v) >>> shift) & MASK]++] = v;
+            }
+            double[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+        if (src != a) System.arraycopy(src, srcBase, a, fromIndex, n);
+    }
+
+    /**
+     * sorts an array of 16-bit integers
+     *
+     * @param a array to be sorted
+     */
+    public static void sort(short[] a) {
+        Objects.requireNonNull(a);
+        sortRange(a, 0, a.length);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] in place, the rest of the array is not touched
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    public static void sort(short[] a, int fromIndex, int toIndex) {
+        Objects.requireNonNull(a);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        sortRange(a, fromIndex, toIndex);
+    }
+
+    private static void sortRange(short[] a, int fromIndex, int toIndex) {
+        final int n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+        final int digits = Short.SIZE / BITS_PER_DIGIT;
+
+        int[][] count = new int[digits][RADIX];
+        for (int i = fromIndex; i < toIndex; i++) {
+            int key = shortKey(a[i]);
+            for (int d = 0; d < digits; d++) {
+                count[d][(key >>> (d * BITS_PER_DIGIT)) & MASK]++;
+            }
+        }
+
+        // the elements are in src[srcBase..srcBase+n-1], a pass moves them to dst[dstBase..dstBase+n-1]
+        short[] src = a;
+        short[] dst = null;
+        int srcBase = fromIndex;
+        int dstBase = 0;
+        for (int d = 0; d < digits; d++) {
+            final int shift = d * BITS_PER_DIGIT;
+            if (isTrivialPass(count[d], (shortKey(src[srcBase]) >>> shift) & MASK, n)) {
+                continue;
+            }
+            if (dst == null) dst = new short[n];
+            int[] next = count[d];
+            toStartPositions(next);
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                short v = src[i];
+                dst[dstBase + next[(shortKey(v) >>> shift) & MASK]++] = v;
+            }
+            short[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+        if (src != a) System.arraycopy(src, srcBase, a, fromIndex, n);
+    }
+
+    /**
+     * sorts an array of chars
+     *
+     * @param a array to be sorted
+     */
+    public static void sort(char[] a) {
+        Objects.requireNonNull(a);
+        sortRange(a, 0, a.length);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] in place, the rest of the array is not touched
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    public static void sort(char[] a, int fromIndex, int toIndex) {
+        Objects.requireNonNull(a);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        sortRange(a, fromIndex, toIndex);
+    }
+
+    private static void sortRange(char[] a, int fromIndex, int toIndex) {
+        final int n = toIndex - fromIndex;
+        if (n < 2) {
+            return;
+        }
+        final int digits = Character.SIZE / BITS_PER_DIGIT;
+
+        int[][] count = new int[digits][RADIX];
+        for (int i = fromIndex; i < toIndex; i++) {
+            int key = charKey(a[i]);
+            for (int d = 0; d < digits; d++) {
+                count[d][(key >>> (d * BITS_PER_DIGIT)) & MASK]++;
+            }
+        }
+
+        // the elements are in src[srcBase..srcBase+n-1], a pass moves them to dst[dstBase..dstBase+n-1]
+        char[] src = a;
+        char[] dst = null;
+        int srcBase = fromIndex;
+        int dstBase = 0;
+        for (int d = 0; d < digits; d++) {
+            final int shift = d * BITS_PER_DIGIT;
+            if (isTrivialPass(count[d], (charKey(src[srcBase]) >>> shift) & MASK, n)) {
+                continue;
+            }
+            if (dst == null) dst = new char[n];
+            int[] next = count[d];
+            toStartPositions(next);
+            for (int i = srcBase, end = srcBase + n; i < end; i++) {
+                char v = src[i];
+                dst[dstBase + next[(charKey(v) >>> shift) & MASK]++] = v;
+            }
+            char[] tmp = src;
+            src = dst;
+            dst = tmp;
+            int tmpBase = srcBase;
+            srcBase = dstBase;
+            dstBase = tmpBase;
+        }
+        if (src != a) System.arraycopy(src, srcBase, a, fromIndex, n);
+    }
+
+    /**
+     * histograms of all the digits of the keys, computed in a single pass
+     *
+     * @param count zeroed histograms to fill
+     * @return count
+     */
+    private static int[][] intHistograms(int[] a, int[][] count) {
+        final int digits = Integer.SIZE / BITS_PER_DIGIT;
+        for (int v : a) {
+            int key = intKey(v);
+            for (int d = 0; d < digits; d++) {
+                count[d][(key >>> (d * BITS_PER_DIGIT)) & MASK]++;
+            }
+        }
+        return count;
+    }
+
+    private static int[] identity(int n) {
+        int[] perm = new int[n];
+        for (int i = 0; i < n; i++) {
+            perm[i] = i;
+        }
+        return perm;
+    }
+
+    private static void checkSameLength(int keys, int payload) {
+        if (keys != payload) {
+            throw new IllegalArgumentException("keys and payload should have the same length: " + keys
+                    + " != " + payload);
+        }
+    }
+
+    /**
+     * maps int to a key that has the same order when compared as unsigned int
+     */
+    static int intKey(int v) {
+        return v ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * maps long to a key that has the same order when compared as unsigned long
+     */
+    static long longKey(long v) {
+        return v ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * maps short to a key that has the same order when compared as unsigned int
+     */
+    static int shortKey(short v) {
+        return (v & 0xFFFF) ^ 0x8000;
+    }
+
+    /**
+     * chars are unsigned already
+     */
+    static int charKey(char v) {
+        return v;
+    }
+
+    /**
+     * maps float to a key that has the same order when compared as unsigned int. positive numbers get the sign bit
+     * set, negative numbers get all the bits flipped. {@link Float#floatToIntBits(float)} collapses all NaNs into
+     * the canonical positive one, so NaNs go to the end
+     */
+    static int floatKey(float v) {
+        int bits = Float.floatToIntBits(v);
+        return bits ^ ((bits >> 31) | Integer.MIN_VALUE);
+    }
+
+    /**
+     * maps double to a key that has the same order when compared as unsigned long, see {@link #floatKey(float)}
+     */
+    static long doubleKey(double v) {
+        long bits = Double.doubleToLongBits(v);
+        return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+    }
+
+    /**
+     * @return true if all n keys fall into the given bucket, so the pass wouldn't move anything
+     */
+    private static boolean isTrivialPass(int[] count, int bucket, int n) {
+        return count[bucket] == n;
+    }
+
+    /**
+     * turns a histogram into the start positions of the buckets (exclusive prefix sums)
+     */
+    private static void toStartPositions(int[] count) {
+        int sum = 0;
+        for (int r = 0; r < RADIX; r++) {
+            int c = count[r];
+            count[r] = sum;
+            sum += c;
+        }
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public boolean isAllocationFree() {
+        return true;
+    }
+
+    @Override
+    public void instanceSort(int[] a) {
+        sort(a);
+    }
+
+    @Override
+    public void instanceSort(int[] a, SortWorkspace workspace) {
+        sort(a, workspace);
+    }
+
+    @Override
+    public void instanceSort(int[] a, int fromIndex, int toIndex) {
+        sort(a, fromIndex, toIndex);
+    }
+
+    @Override
+    public void instanceSort(double[] a) {
+        sort(a);
+    }
+}
@@ -0,0 +1,274 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Selection: the k smallest (or largest) elements without sorting everything.
+ * <p><ul>
+ * <li> {@link #nthElement(int[], int)} is introselect: quickselect on top of the partitioning of {@link QuickSort},
+ * only the part that contains the n-th position is processed further. if it takes more than 2 * log2(n) rounds,
+ * the rest is heap sorted. O(n) on average, O(n log n) in the worst case </li>
+ * <li> {@link #partialSort(int[], int)} selects the k-th element and sorts what's in front of it,
+ * O(n + k log k) </li>
+ * <li> {@link #smallest(IntStream, int)} and friends keep a bounded heap of the best k elements seen so far,
+ * so the input can be consumed as a stream in O(n log k) time and O(k) space. parallel streams are supported:
+ * every worker keeps its own heap and the heaps are combined at the end </li>
+ * </ul>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Introselect">https://en.wikipedia.org/wiki/Introselect</a>
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public final class Selection {
+
+    private Selection() {
+    }
+
+    /**
+     * rearranges the array so that a[n] is the element that would be there if the array were sorted, all the
+     * elements before it are not greater and all the elements after it are not less
+     *
+     * @param a array
+     * @param n position in [0, a.length)
+     * @return the n-th smallest element, a[n]
+     */
+    public static int nthElement(int[] a, int n) {
+        return nthElement(a, 0, a.length, n);
+    }
+
+    /**
+     * the same as {@link #nthElement(int[], int)} for the range a[fromIndex..toIndex-1]
+     *
+     * @param a         array
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     * @param n         position in [fromIndex, toIndex)
+     * @return a[n]
+     */
+    public static int nthElement(int[] a, int fromIndex, int toIndex, int n) {
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        if (n < fromIndex || n >= toIndex) {
+            throw new ArrayIndexOutOfBoundsException("n = " + n + " is out of [" + fromIndex + ", " + toIndex + ")");
+        }
+        int lo = fromIndex;
+        int hi = toIndex - 1;
+        int[] bounds = new int[4];
+        for (int depth = QuickSort.depthLimit(toIndex - fromIndex); ; depth--) {
+            if (hi - lo < QuickSort.INSERTION_CUTOFF) {
+                SortingNetwork.sort(a, lo, hi);
+                break;
+            }
+            if (depth == 0) {
+                QuickSort.heapSort(a, lo, hi);
+                break;
+            }
+            QuickSort.partition(a, lo, hi, bounds);
+            if (n <= bounds[0]) {
+                hi = bounds[0];
+            } else if (n >= bounds[3]) {
+                lo = bounds[3];
+            } else if (bounds[1] <= n && n <= bounds[2]) {
+                lo = bounds[1];
+                hi = bounds[2];
+            } else {
+                // a pivot or an element equal to it, it's in its final position
+                break;
+            }
+        }
+        return a[n];
+    }
+
+    /**
+     * rearranges the array so that a[0..k-1] are the k smallest elements in ascending order. the order of the
+     * rest of the array is unspecified
+     *
+     * @param a array
+     * @param k number of elements to sort, in [0, a.length]
+     */
+    public static void partialSort(int[] a, int k) {
+        if (k < 0 || k > a.length) {
+            throw new IllegalArgumentException("k = " + k + " is out of [0, " + a.length + "]");
+        }
+        if (k == 0) {
+            return;
+        }
+        nthElement(a, k - 1);
+        // a[k - 1] is in its final position already, only the elements in front of it need sorting
+        QuickSort.sort(a, 0, k - 1);
+    }
+
+    /**
+     * @param stream ints, possibly parallel
+     * @param k      number of elements to keep
+     * @return at most k smallest elements of the stream in ascending order
+     */
+    public static int[] smallest(IntStream stream, int k) {
+        return stream.collect(() -> new BoundedIntHeap(k, false), BoundedIntHeap::add, BoundedIntHeap::addAll)
+                .toSortedArray();
+    }
+
+    /**
+     * @param stream ints, possibly parallel
+     * @param k      number of elements to keep
+     * @return at most k largest elements of the stream in descending order
+     */
+    public static int[] largest(IntStream stream, int k) {
+        return stream.collect(() -> new BoundedIntHeap(k, true), BoundedIntHeap::add, BoundedIntHeap::addAll)
+                .toSortedArray();
+    }
+
+    /**
+     * @param it iterator over ints, it's consumed
+     * @param k  number of elements to keep
+     * @return at most k smallest elements in ascending order
+     */
+    public static int[] smallest(PrimitiveIterator.OfInt it, int k) {
+        BoundedIntHeap heap = new BoundedIntHeap(k, false);
+        while (it.hasNext()) {
+            heap.add(it.nextInt());
+        }
+        return heap.toSortedArray();
+    }
+
+    /**
+     * k smallest elements of the array computed by the workers of {@link java.util.concurrent.ForkJoinPool#commonPool()},
+     * the array is not modified. meant for k much smaller than the array
+     *
+     * @param a array
+     * @param k number of elements to keep
+     * @return at most k smallest elements in ascending order
+     */
+    public static int[] parallelSmallest(int[] a, int k) {
+        return smallest(Arrays.stream(a).parallel(), k);
+    }
+
+    /**
+     * @param it iterator, it's consumed
+     * @param k  number of elements to keep
+     * @param c  comparator
+     * @param <T> type of the elements
+     * @return at most k smallest elements according to the comparator, in ascending order
+     */
+    public static <T> List<T> smallest(Iterator<? extends T> it, int k, Comparator<? super T> c) {
+        checkK(k);
+        Objects.requireNonNull(c);
+        // max-heap: the root is the worst of the elements kept so far
+        PriorityQueue<T> heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1 << 16)), c.reversed());
+        while (it.hasNext()) {
+            T v = it.next();
+            if (heap.size() < k) {
+                heap.add(v);
+            } else if (k > 0 && c.compare(v, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(v);
+            }
+        }
+        List<T> result = new ArrayList<>(heap);
+        result.sort(c);
+        return result;
+    }
+
+    /**
+     * @param it  iterator over comparable elements, it's consumed
+     * @param k   number of elements to keep
+     * @param <T> type of the elements
+     * @return at most k smallest elements in ascending order
+     */
+    public static <T extends Comparable<? super T>> List<T> smallest(Iterator<? extends T> it, int k) {
+        return smallest(it, k, Comparator.<T>naturalOrder());
+    }
+
+    private static void checkK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k should not be negative: " + k);
+        }
+    }
+
+    /**
+     * heap of at most k ints with the worst one on the top: the largest one if the smallest elements are kept and
+     * vice versa. a new element either replaces the top or is dropped
+     */
+    static final class BoundedIntHeap {
+        private final int k;
+        private final boolean keepLargest;
+        private int[] heap;
+        private int size;
+
+        BoundedIntHeap(int k, boolean keepLargest) {
+            checkK(k);
+            this.k = k;
+            this.keepLargest = keepLargest;
+            this.heap = new int[Math.min(k, 16)];
+        }
+
+        void add(int v) {
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min(k, 2L * size));
+                }
+                siftUp(size++, v);
+            } else if (k > 0 && worse(heap[0], v)) {
+                siftDown(0, v);
+            }
+        }
+
+        void addAll(BoundedIntHeap other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.heap[i]);
+            }
+        }
+
+        /**
+         * @return kept elements, the best one first
+         */
+        int[] toSortedArray() {
+            int[] result = Arrays.copyOf(heap, size);
+            Arrays.sort(result);
+            if (keepLargest) {
+                for (int i = 0, j = size - 1; i < j; i++, j--) {
+                    int tmp = result[i];
+                    result[i] = result[j];
+                    result[j] = tmp;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * @return true if x should be closer to the top than y
+         */
+        private boolean worse(int x, int y) {
+            return keepLargest ? x < y : x > y;
+        }
+
+        private void siftUp(int i, int v) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!worse(v, heap[parent])) break;
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = v;
+        }
+
+        private void siftDown(int i, int v) {
+            int child;
+            while ((child = 2 * i + 1) < size) {
+                if (child + 1 < size && worse(heap[child + 1], heap[child])) child++;
+                if (!worse(heap[child], v)) break;
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = v;
+        }
+    }
+}
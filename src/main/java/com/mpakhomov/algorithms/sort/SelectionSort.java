@@ -49,6 +49,16 @@ public class SelectionSort implements Sorting {
         a[j] = tmp;
     }
 
+    @Override
+    public boolean isInPlace() {
+        return true;
+    }
+
+    @Override
+    public boolean isAllocationFree() {
+        return true;
+    }
+
     @Override
     public void instanceSort(int[] a) {
         sort(a);
@@ -0,0 +1,63 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+/**
+ * helpers shared by the sorting algorithms
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+final class SortUtil {
+
+    private SortUtil() {
+    }
+
+    /**
+     * checks that [fromIndex, toIndex) is a valid range of an array, the same way {@link java.util.Arrays} does
+     *
+     * @param length    length of the array
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > length
+     */
+    static void rangeCheck(int length, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        }
+        if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        }
+        if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    /**
+     * runs body for every chunk 0..chunks-1 as a fork/join task and waits for all of them. a single chunk is run by
+     * the calling thread. the tasks go to the pool of the calling task, or to the common pool if it's not a task
+     */
+    static void forEachChunk(int chunks, IntConsumer body) {
+        if (chunks == 1) {
+            body.accept(0);
+            return;
+        }
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            final int chunk = c;
+            tasks.add(ForkJoinTask.adapt(() -> body.accept(chunk)));
+        }
+        ForkJoinTask.invokeAll(tasks);
+    }
+
+    /**
+     * @return index of the first element of chunk c when a range [lo, lo + n) is split into chunks of equal size
+     */
+    static int chunkStart(int lo, int n, int chunks, int c) {
+        return lo + (int) ((long) n * c / chunks);
+    }
+}
@@ -0,0 +1,95 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Arrays;
+
+/**
+ * Reusable scratch space for sorting algorithms: auxiliary arrays and histograms. When millions of small arrays are
+ * sorted, allocating the auxiliary array on every call is what dominates, see
+ * {@link Sorting#instanceSort(int[], SortWorkspace)}.
+ * <p>
+ * Buffers are handed out by slot number. A buffer grows when it's too short and is never shrunk, so in the steady
+ * state no allocation happens. Contents of a buffer are undefined when it's handed out. A sorter must not use
+ * the same slot for two different purposes at the same time.
+ * <p>
+ * Not thread-safe: use one workspace per thread, e.g. {@link #forCurrentThread()}.
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class SortWorkspace {
+
+    /** number of slots for each type of buffer */
+    public static final int SLOTS = 2;
+
+    private static final ThreadLocal<SortWorkspace> THREAD_LOCAL = ThreadLocal.withInitial(SortWorkspace::new);
+
+    private final int[][] ints = new int[SLOTS][0];
+    private final long[][] longs = new long[SLOTS][0];
+    private int[][] histograms = new int[0][0];
+
+    /**
+     * @return workspace of the current thread. it lives as long as the thread does, call {@link #clear()} to free
+     * the memory
+     */
+    public static SortWorkspace forCurrentThread() {
+        return THREAD_LOCAL.get();
+    }
+
+    /**
+     * @param slot      slot number in [0, SLOTS)
+     * @param minLength min length of the buffer
+     * @return int buffer of at least minLength elements
+     */
+    public int[] ints(int slot, int minLength) {
+        int[] buffer = ints[slot];
+        if (buffer.length < minLength) {
+            buffer = new int[grow(buffer.length, minLength)];
+            ints[slot] = buffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * @param slot      slot number in [0, SLOTS)
+     * @param minLength min length of the buffer
+     * @return long buffer of at least minLength elements
+     */
+    public long[] longs(int slot, int minLength) {
+        long[] buffer = longs[slot];
+        if (buffer.length < minLength) {
+            buffer = new long[grow(buffer.length, minLength)];
+            longs[slot] = buffer;
+        }
+        return buffer;
+    }
+
+    /**
+     * @param digits number of histograms
+     * @param radix  number of buckets in each histogram
+     * @return array of at least digits histograms of at least radix buckets each, all filled with zeroes
+     */
+    public int[][] histograms(int digits, int radix) {
+        if (histograms.length < digits || (digits > 0 && histograms[0].length < radix)) {
+            histograms = new int[digits][radix];
+            return histograms;
+        }
+        for (int d = 0; d < digits; d++) {
+            Arrays.fill(histograms[d], 0, radix, 0);
+        }
+        return histograms;
+    }
+
+    /**
+     * drops all the buffers
+     */
+    public void clear() {
+        Arrays.fill(ints, new int[0]);
+        Arrays.fill(longs, new long[0]);
+        histograms = new int[0][0];
+    }
+
+    private static int grow(int length, int minLength) {
+        // grow by 1.5 at least, so a slowly growing input doesn't cause an allocation on every call
+        return Math.max(minLength, length + (length >> 1));
+    }
+}
@@ -1,8 +1,64 @@
 package com.mpakhomov.algorithms.sort;
 
+import java.util.Arrays;
+
 /**
  * for testing purposes
+ * <p>
+ * Besides sorting, an implementation tells what it guarantees: {@link #isStable()}, {@link #isInPlace()} and
+ * {@link #isAllocationFree()}. The defaults promise nothing.
  */
 public interface Sorting {
     void instanceSort(int[] a);
+
+    /**
+     * @return true if the algorithm keeps equal elements in their original order. it can't be observed on plain
+     * ints, but it matters for the same algorithm applied to records, see {@link ObjectSorting}
+     */
+    default boolean isStable() {
+        return false;
+    }
+
+    /**
+     * @return true if the algorithm needs at most O(log n) extra memory
+     */
+    default boolean isInPlace() {
+        return false;
+    }
+
+    /**
+     * @return true if {@link #instanceSort(int[], SortWorkspace)} doesn't allocate once the workspace has grown
+     * to the size of the input
+     */
+    default boolean isAllocationFree() {
+        return false;
+    }
+
+    /**
+     * sorts the array, taking scratch buffers from the workspace instead of allocating them. implementations that
+     * don't need scratch space, or don't support workspaces, just call {@link #instanceSort(int[])}
+     *
+     * @param a         array to be sorted
+     * @param workspace scratch space, reused between calls
+     */
+    default void instanceSort(int[] a, SortWorkspace workspace) {
+        instanceSort(a);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1], the rest of the array is not touched. implementations that can't sort
+     * a range in place get a copy of the range
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     * @throws IllegalArgumentException       if fromIndex > toIndex
+     * @throws ArrayIndexOutOfBoundsException if fromIndex < 0 or toIndex > a.length
+     */
+    default void instanceSort(int[] a, int fromIndex, int toIndex) {
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        int[] range = Arrays.copyOfRange(a, fromIndex, toIndex);
+        instanceSort(range);
+        System.arraycopy(range, 0, a, fromIndex, range.length);
+    }
 }
@@ -0,0 +1,515 @@
+package com.mpakhomov.algorithms.sort;
+
+import java.util.Objects;
+
+/**
+ * Natural merge sort for 32-bit integers, the same algorithm that is behind {@link java.util.Arrays#sort(Object[])}
+ * (Tim Peters, listsort.txt).
+ * <p>
+ * Instead of splitting the array in halves blindly, it scans the array left to right and detects runs:
+ * non-descending or strictly descending (those are reversed in place) sequences of elements. Runs that are shorter
+ * than minRun (16..32 elements) are extended by {@link InsertionSort#binarySort(int[], int, int)}. Runs are pushed
+ * to a stack and merged when the lengths on the top of the stack violate the invariants
+ * runLen[i - 2] > runLen[i - 1] + runLen[i] and runLen[i - 1] > runLen[i], which keeps merges balanced.
+ * <p>
+ * Merges use galloping: when one run keeps winning, exponential search finds how many elements in a row come from
+ * it and they are moved with a single {@link System#arraycopy(Object, int, Object, int, int)}.
+ * <p>
+ * Performance: Average: O(n log n), Best: O(n), Worst: O(n log n)
+ * Space: O(n), at most n / 2 temporary elements
+ * Stable: yes
+ * Adaptive: yes
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Timsort">https://en.wikipedia.org/wiki/Timsort</a>
+ * @see <a href="https://github.com/python/cpython/blob/main/Objects/listsort.txt">listsort.txt</a>
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class TimSort implements Sorting {
+
+    /** arrays shorter than that are sorted by a single binary insertion sort, it's also the upper bound of minRun */
+    static final int MIN_MERGE = 32;
+
+    /** number of consecutive wins of one run that switch the merge into galloping mode */
+    static final int MIN_GALLOP = 7;
+
+    /** initial size of the temporary array, it grows on demand */
+    private static final int INITIAL_TMP_LENGTH = 256;
+
+    /**
+     * max size of the run stack. run lengths grow at least as fast as Fibonacci numbers, so 49 runs are
+     * enough for any array which length fits into int
+     */
+    private static final int MAX_STACK_SIZE = 49;
+
+    /**
+     * sorts an array of 32-bit integers
+     *
+     * @param a array to be sorted
+     */
+    static public void sort(int[] a) {
+        Objects.requireNonNull(a);
+        sortRange(a, 0, a.length);
+    }
+
+    /**
+     * sorts a[fromIndex..toIndex-1] in place, the rest of the array is not touched
+     *
+     * @param a         array to be sorted
+     * @param fromIndex index of the first element, inclusive
+     * @param toIndex   index of the last element, exclusive
+     */
+    static public void sort(int[] a, int fromIndex, int toIndex) {
+        Objects.requireNonNull(a);
+        SortUtil.rangeCheck(a.length, fromIndex, toIndex);
+        sortRange(a, fromIndex, toIndex);
+    }
+
+    /**
+     * sorts a[lo..hi-1]
+     *
+     * @param a  array to be sorted
+     * @param lo index of the first element, inclusive
+     * @param hi index of the last element, exclusive
+     */
+    static void sortRange(int[] a, int lo, int hi) {
+        int remaining = hi - lo;
+        if (remaining < 2) {
+            return;
+        }
+
+        // tiny arrays: no merges at all
+        if (remaining < MIN_MERGE) {
+            int runLen = countRunAndMakeAscending(a, lo, hi);
+            InsertionSort.binarySort(a, lo, hi - 1, lo + runLen);
+            return;
+        }
+
+        MergeState ms = new MergeState(a, remaining);
+        int minRun = minRunLength(remaining);
+        do {
+            int runLen = countRunAndMakeAscending(a, lo, hi);
+            // extend a short run to min(minRun, remaining)
+            if (runLen < minRun) {
+                int force = remaining <= minRun ? remaining : minRun;
+                InsertionSort.binarySort(a, lo, lo + force - 1, lo + runLen);
+                runLen = force;
+            }
+            ms.pushRun(lo, runLen);
+            ms.mergeCollapse();
+
+            lo += runLen;
+            remaining -= runLen;
+        } while (remaining != 0);
+
+        ms.mergeForceCollapse();
+    }
+
+    /**
+     * finds the length of the run that starts at lo. strictly descending run is reversed, so the run is always
+     * ascending on exit. descending runs have to be strict to keep the sort stable
+     *
+     * @return length of the run, at least 1
+     */
+    static int countRunAndMakeAscending(int[] a, int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return 1;
+        }
+        if (a[runHi++] < a[lo]) {
+            while (runHi < hi && a[runHi] < a[runHi - 1]) runHi++;
+            reverseRange(a, lo, runHi);
+        } else {
+            while (runHi < hi && a[runHi] >= a[runHi - 1]) runHi++;
+        }
+        return runHi - lo;
+    }
+
+    private static void reverseRange(int[] a, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            int tmp = a[lo];
+            a[lo++] = a[hi];
+            a[hi--] = tmp;
+        }
+    }
+
+    /**
+     * minimum run length. it's chosen so that n / minRun is equal to, or a bit less than, a power of 2, which
+     * makes the final merges balanced: take the 5 highest bits of n and add 1 if any of the remaining bits is set
+     *
+     * @param n length of the array
+     * @return minRun in [MIN_MERGE / 2, MIN_MERGE]
+     */
+    static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    /**
+     * finds the position to insert the key into a sorted range a[base..base+len-1]. if the range contains
+     * elements equal to the key, returns the index of the leftmost one. the search starts at a[base + hint] and
+     * gallops (1, 3, 7, 15, ...) left or right, then finishes with binary search
+     *
+     * @return k in [0, len] such that a[base + k - 1] < key <= a[base + k]
+     */
+    static int gallopLeft(int key, int[] a, int base, int len, int hint) {
+        int lastOfs = 0;
+        int ofs = 1;
+        if (key > a[base + hint]) {
+            // gallop right until a[base + hint + lastOfs] < key <= a[base + hint + ofs]
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && key > a[base + hint + ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs; // int overflow
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            lastOfs += hint;
+            ofs += hint;
+        } else {
+            // gallop left until a[base + hint - ofs] < key <= a[base + hint - lastOfs]
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && key <= a[base + hint - ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs;
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            int tmp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - tmp;
+        }
+
+        // now a[base + lastOfs] < key <= a[base + ofs], binary search in between
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (key > a[base + m]) lastOfs = m + 1;
+            else ofs = m;
+        }
+        return ofs;
+    }
+
+    /**
+     * like {@link #gallopLeft(int, int[], int, int, int)}, but if the range contains elements equal to the key,
+     * returns the index after the rightmost one
+     *
+     * @return k in [0, len] such that a[base + k - 1] <= key < a[base + k]
+     */
+    static int gallopRight(int key, int[] a, int base, int len, int hint) {
+        int lastOfs = 0;
+        int ofs = 1;
+        if (key < a[base + hint]) {
+            // gallop left until a[base + hint - ofs] <= key < a[base + hint - lastOfs]
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && key < a[base + hint - ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs;
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            int tmp = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - tmp;
+        } else {
+            // gallop right until a[base + hint + lastOfs] <= key < a[base + hint + ofs]
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && key >= a[base + hint + ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs;
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            lastOfs += hint;
+            ofs += hint;
+        }
+
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (key < a[base + m]) ofs = m;
+            else lastOfs = m + 1;
+        }
+        return ofs;
+    }
+
+    /**
+     * stack of pending runs and the temporary array for a single sort
+     */
+    private static class MergeState {
+        private final int[] a;
+        private int[] tmp;
+        private final int maxTmpLength;
+        private int minGallop = MIN_GALLOP;
+
+        private final int[] runBase = new int[MAX_STACK_SIZE];
+        private final int[] runLen = new int[MAX_STACK_SIZE];
+        private int stackSize = 0;
+
+        MergeState(int[] a, int n) {
+            this.a = a;
+            this.tmp = new int[n < 2 * INITIAL_TMP_LENGTH ? n >>> 1 : INITIAL_TMP_LENGTH];
+            this.maxTmpLength = n >>> 1;
+        }
+
+        void pushRun(int base, int len) {
+            runBase[stackSize] = base;
+            runLen[stackSize] = len;
+            stackSize++;
+        }
+
+        /**
+         * merges runs on the top of the stack until the invariants hold:
+         * runLen[i - 2] > runLen[i - 1] + runLen[i] and runLen[i - 1] > runLen[i].
+         * the invariant is checked for the 4 topmost runs, checking only 3 of them is not enough
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                        || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                    if (runLen[n - 1] < runLen[n + 1]) n--;
+                } else if (runLen[n] > runLen[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * merges all the runs on the stack, called once at the end
+         */
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLen[n - 1] < runLen[n + 1]) n--;
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * merges runs i and i + 1. i is either the second or the third run from the top of the stack
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int len1 = runLen[i];
+            int base2 = runBase[i + 1];
+            int len2 = runLen[i + 1];
+
+            runLen[i] = len1 + len2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLen[i + 1] = runLen[i + 2];
+            }
+            stackSize--;
+
+            // elements of run1 that are <= the first element of run2 are already in place
+            int k = gallopRight(a[base2], a, base1, len1, 0);
+            base1 += k;
+            len1 -= k;
+            if (len1 == 0) return;
+
+            // elements of run2 that are >= the last element of run1 are already in place
+            len2 = gallopLeft(a[base1 + len1 - 1], a, base2, len2, len2 - 1);
+            if (len2 == 0) return;
+
+            // copy the shorter run to tmp
+            if (len1 <= len2) mergeLo(base1, len1, base2, len2);
+            else mergeHi(base1, len1, base2, len2);
+        }
+
+        /**
+         * merges left to right, len1 <= len2. the first element of run1 is greater than the first element of run2,
+         * the last element of run1 is greater than all elements of run2
+         */
+        private void mergeLo(int base1, int len1, int base2, int len2) {
+            final int[] a = this.a;
+            final int[] tmp = ensureCapacity(len1);
+            System.arraycopy(a, base1, tmp, 0, len1);
+            int cursor1 = 0;     // in tmp
+            int cursor2 = base2; // in a
+            int dest = base1;    // in a
+
+            a[dest++] = a[cursor2++];
+            if (--len2 == 0) {
+                System.arraycopy(tmp, cursor1, a, dest, len1);
+                return;
+            }
+            if (len1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, len2);
+                a[dest + len2] = tmp[cursor1];
+                return;
+            }
+
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0; // number of times in a row that run1 won
+                int count2 = 0; // number of times in a row that run2 won
+
+                // one element at a time until one run starts winning consistently
+                do {
+                    if (a[cursor2] < tmp[cursor1]) {
+                        a[dest++] = a[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (--len2 == 0) break outer;
+                    } else {
+                        a[dest++] = tmp[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (--len1 == 1) break outer;
+                    }
+                } while ((count1 | count2) < minGallop);
+
+                // galloping until neither run is winning consistently anymore
+                do {
+                    count1 = gallopRight(a[cursor2], tmp, cursor1, len1, 0);
+                    if (count1 != 0) {
+                        System.arraycopy(tmp, cursor1, a, dest, count1);
+                        dest += count1;
+                        cursor1 += count1;
+                        len1 -= count1;
+                        if (len1 <= 1) break outer;
+                    }
+                    a[dest++] = a[cursor2++];
+                    if (--len2 == 0) break outer;
+
+                    count2 = gallopLeft(tmp[cursor1], a, cursor2, len2, 0);
+                    if (count2 != 0) {
+                        System.arraycopy(a, cursor2, a, dest, count2);
+                        dest += count2;
+                        cursor2 += count2;
+                        len2 -= count2;
+                        if (len2 == 0) break outer;
+                    }
+                    a[dest++] = tmp[cursor1++];
+                    if (--len1 == 1) break outer;
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                if (minGallop < 0) minGallop = 0;
+                minGallop += 2; // penalize for leaving galloping mode
+            }
+            this.minGallop = minGallop < 1 ? 1 : minGallop;
+
+            if (len1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, len2);
+                a[dest + len2] = tmp[cursor1]; // the last element of run1 goes to the end
+            } else {
+                System.arraycopy(tmp, cursor1, a, dest, len1);
+            }
+        }
+
+        /**
+         * mirror image of {@link #mergeLo(int, int, int, int)}: merges right to left, len1 >= len2
+         */
+        private void mergeHi(int base1, int len1, int base2, int len2) {
+            final int[] a = this.a;
+            final int[] tmp = ensureCapacity(len2);
+            System.arraycopy(a, base2, tmp, 0, len2);
+            int cursor1 = base1 + len1 - 1; // in a
+            int cursor2 = len2 - 1;         // in tmp
+            int dest = base2 + len2 - 1;    // in a
+
+            a[dest--] = a[cursor1--];
+            if (--len1 == 0) {
+                System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+                return;
+            }
+            if (len2 == 1) {
+                dest -= len1;
+                cursor1 -= len1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+                a[dest] = tmp[cursor2];
+                return;
+            }
+
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                do {
+                    if (tmp[cursor2] < a[cursor1]) {
+                        a[dest--] = a[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if (--len1 == 0) break outer;
+                    } else {
+                        a[dest--] = tmp[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if (--len2 == 1) break outer;
+                    }
+                } while ((count1 | count2) < minGallop);
+
+                do {
+                    count1 = len1 - gallopRight(tmp[cursor2], a, base1, len1, len1 - 1);
+                    if (count1 != 0) {
+                        dest -= count1;
+                        cursor1 -= count1;
+                        len1 -= count1;
+                        System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                        if (len1 == 0) break outer;
+                    }
+                    a[dest--] = tmp[cursor2--];
+                    if (--len2 == 1) break outer;
+
+                    count2 = len2 - gallopLeft(a[cursor1], tmp, 0, len2, len2 - 1);
+                    if (count2 != 0) {
+                        dest -= count2;
+                        cursor2 -= count2;
+                        len2 -= count2;
+                        System.arraycopy(tmp, cursor2 + 1, a, dest + 1, count2);
+                        if (len2 <= 1) break outer;
+                    }
+                    a[dest--] = a[cursor1--];
+                    if (--len1 == 0) break outer;
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+                if (minGallop < 0) minGallop = 0;
+                minGallop += 2;
+            }
+            this.minGallop = minGallop < 1 ? 1 : minGallop;
+
+            if (len2 == 1) {
+                dest -= len1;
+                cursor1 -= len1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+                a[dest] = tmp[cursor2]; // the first element of run2 goes to the front
+            } else {
+                System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+            }
+        }
+
+        private int[] ensureCapacity(int minCapacity) {
+            if (tmp.length < minCapacity) {
+                int newSize = Math.max(minCapacity, Math.min(tmp.length << 1, maxTmpLength));
+                tmp = new int[newSize];
+            }
+            return tmp;
+        }
+    }
+
+    @Override
+    public boolean isStable() {
+        return true;
+    }
+
+    @Override
+    public void instanceSort(int[] a) {
+        sort(a);
+    }
+
+    @Override
+    public void instanceSort(int[] a, int fromIndex, int toIndex) {
+        sort(a, fromIndex, toIndex);
+    }
+}
@@ -0,0 +1,248 @@
+package com.mpakhomov.queue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed min-heap: holds ids in [0, capacity), each with a long key, and keeps the position of every id in the heap
+ * array, so that the key of an id can be decreased or the id removed in O(log_d n) without searching for it. This is
+ * the queue of Dijkstra's and Prim's algorithms, where an id is a vertex.
+ * <p>
+ * The layout is the same as in {@link LongDaryHeap}: the children of node i are at d * i + 1 .. d * i + d. The heap
+ * array holds ids and a separate array, indexed by id, holds their keys, so comparing the children of a node costs an
+ * extra indirection. siftUp and siftDown write the new position of every id they move into the position array.
+ * <p>
+ * Performance: push, decrease-key, remove: O(log_d n), pop: O(d log_d n), peek, contains, keyOf: O(1)
+ * Space: O(capacity)
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class IndexedDaryHeap {
+
+    private final int d;
+    /** ids in heap order */
+    private final int[] heap;
+    /** position of an id in the heap array, or -1 if the id isn't in the heap */
+    private final int[] pos;
+    /** key of an id, valid while the id is in the heap */
+    private final long[] keys;
+    private int size;
+
+    /**
+     * @param capacity ids are in [0, capacity)
+     * @throws IllegalArgumentException if capacity < 0
+     */
+    public IndexedDaryHeap(int capacity) {
+        this(LongDaryHeap.DEFAULT_ARITY, capacity);
+    }
+
+    /**
+     * @param d        number of children of a node, at least 2
+     * @param capacity ids are in [0, capacity)
+     * @throws IllegalArgumentException if d < 2 or capacity < 0
+     */
+    public IndexedDaryHeap(int d, int capacity) {
+        if (d < 2) {
+            throw new IllegalArgumentException("d should be at least 2");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity should not be negative");
+        }
+        this.d = d;
+        this.heap = new int[capacity];
+        this.pos = new int[capacity];
+        this.keys = new long[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    /**
+     * @param id  id to be added
+     * @param key its key
+     * @throws IllegalArgumentException if the id is out of [0, capacity) or is already in the heap
+     */
+    public void push(int id, long key) {
+        checkId(id);
+        if (pos[id] >= 0) {
+            throw new IllegalArgumentException("id " + id + " is already in the heap");
+        }
+        keys[id] = key;
+        siftUp(size++, id);
+    }
+
+    /**
+     * @param id id
+     * @return true if the id is in the heap
+     * @throws IllegalArgumentException if the id is out of [0, capacity)
+     */
+    public boolean contains(int id) {
+        checkId(id);
+        return pos[id] >= 0;
+    }
+
+    /**
+     * @param id id
+     * @return key of the id
+     * @throws NoSuchElementException if the id isn't in the heap
+     */
+    public long keyOf(int id) {
+        checkContains(id);
+        return keys[id];
+    }
+
+    /**
+     * @return the id with the smallest key, it stays in the heap
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int peekId() {
+        if (size == 0) {
+            throw new NoSuchElementException("heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * @return the smallest key, it stays in the heap
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long peekKey() {
+        return keys[peekId()];
+    }
+
+    /**
+     * removes the id with the smallest key
+     *
+     * @return the id with the smallest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int pop() {
+        int top = peekId();
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * replaces the key of an id with a smaller or equal one and moves the id up
+     *
+     * @param id  id
+     * @param key new key
+     * @throws NoSuchElementException   if the id isn't in the heap
+     * @throws IllegalArgumentException if the new key is greater than the current one
+     */
+    public void decreaseKey(int id, long key) {
+        checkContains(id);
+        if (key > keys[id]) {
+            throw new IllegalArgumentException("new key " + key + " is greater than the current one " + keys[id]);
+        }
+        keys[id] = key;
+        siftUp(pos[id], id);
+    }
+
+    /**
+     * removes an id from the heap
+     *
+     * @param id id
+     * @return true if the id was in the heap
+     * @throws IllegalArgumentException if the id is out of [0, capacity)
+     */
+    public boolean remove(int id) {
+        checkId(id);
+        if (pos[id] < 0) {
+            return false;
+        }
+        removeAt(pos[id]);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            pos[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void checkId(int id) {
+        if (id < 0 || id >= pos.length) {
+            throw new IllegalArgumentException("id " + id + " is out of [0, " + pos.length + ")");
+        }
+    }
+
+    private void checkContains(int id) {
+        checkId(id);
+        if (pos[id] < 0) {
+            throw new NoSuchElementException("id " + id + " is not in the heap");
+        }
+    }
+
+    /**
+     * moves the last id to position i, then up or down, whichever restores the heap
+     */
+    private void removeAt(int i) {
+        pos[heap[i]] = -1;
+        int last = heap[--size];
+        if (i == size) {
+            return;
+        }
+        if (i > 0 && keys[last] < keys[heap[(i - 1) / d]]) {
+            siftUp(i, last);
+        } else {
+            siftDown(i, last);
+        }
+    }
+
+    /**
+     * puts id to position i or above it, moving the parents with greater keys down
+     */
+    private void siftUp(int i, int id) {
+        int[] h = heap;
+        long key = keys[id];
+        while (i > 0) {
+            int parent = (i - 1) / d;
+            int p = h[parent];
+            if (keys[p] <= key) break;
+            h[i] = p;
+            pos[p] = i;
+            i = parent;
+        }
+        h[i] = id;
+        pos[id] = i;
+    }
+
+    /**
+     * puts id to position i or below it, moving the children with the smallest keys up
+     */
+    private void siftDown(int i, int id) {
+        int[] h = heap;
+        int n = size;
+        long key = keys[id];
+        // d * i + 1 < n, without overflow: d * i + 1 <= n - 1 and i <= (n - 2) / d for n >= 2
+        int lastParent = n < 2 ? -1 : (n - 2) / d;
+        while (i <= lastParent) {
+            int first = d * i + 1;
+            int end = Math.min(first + d, n);
+            int min = first;
+            long minKey = keys[h[first]];
+            for (int c = first + 1; c < end; c++) {
+                long k = keys[h[c]];
+                if (k < minKey) {
+                    minKey = k;
+                    min = c;
+                }
+            }
+            if (minKey >= key) break;
+            h[i] = h[min];
+            pos[h[i]] = i;
+            i = min;
+        }
+        h[i] = id;
+        pos[id] = i;
+    }
+}
@@ -0,0 +1,187 @@
+package com.mpakhomov.queue;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Min-heap of longs in an array, every node has d children. The same as {@link IntDaryHeap}, but for 64-bit keys.
+ * <p>
+ * The children of node i are at d * i + 1 .. d * i + d, next to each other in memory, so picking the smallest child
+ * scans a contiguous block: with d = 8 it's a single cache line. The tree is log_d(n) levels deep, so push, which
+ * only goes up, gets faster with a larger d, and pop, which compares d children at each level, is usually fastest
+ * around d = 4..8.
+ * <p>
+ * A key can carry an id: pack the priority into the high 32 bits and the id into the low ones,
+ * {@code ((long) priority << 32) | (id & 0xFFFFFFFFL)}. Keys with equal priorities are then ordered by id.
+ * There is no decrease-key: to change the priority of an id, use {@link IndexedDaryHeap}.
+ * <p>
+ * Performance: push: O(log_d n), pop: O(d log_d n), peek: O(1), heapify: O(n)
+ * Space: O(n)
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class LongDaryHeap {
+
+    /** four longs: the children of a node are 32 bytes, half of a cache line */
+    public static final int DEFAULT_ARITY = 4;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int d;
+    private long[] heap;
+    private int size;
+
+    public LongDaryHeap() {
+        this(DEFAULT_ARITY, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param d               number of children of a node, at least 2
+     * @param initialCapacity number of keys the heap can hold before it grows
+     * @throws IllegalArgumentException if d < 2 or initialCapacity < 0
+     */
+    public LongDaryHeap(int d, int initialCapacity) {
+        this(d, new long[checkCapacity(initialCapacity)], 0);
+    }
+
+    private LongDaryHeap(int d, long[] heap, int size) {
+        if (d < 2) {
+            throw new IllegalArgumentException("d should be at least 2");
+        }
+        this.d = d;
+        this.heap = heap;
+        this.size = size;
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity should not be negative");
+        }
+        return capacity;
+    }
+
+    /**
+     * builds a heap of all the elements of the array in O(n) by Floyd's method. the heap takes the array over and
+     * rearranges it in place, no copy is made until the heap has to grow
+     *
+     * @param d number of children of a node, at least 2
+     * @param a keys
+     * @return heap
+     */
+    public static LongDaryHeap heapify(int d, long[] a) {
+        LongDaryHeap h = new LongDaryHeap(d, a, a.length);
+        if (h.size > 1) {
+            for (int i = (h.size - 2) / d; i >= 0; i--) {
+                h.siftDown(i, a[i]);
+            }
+        }
+        return h;
+    }
+
+    /**
+     * @param key key to be added
+     */
+    public void push(long key) {
+        if (size == heap.length) {
+            grow();
+        }
+        siftUp(size++, key);
+    }
+
+    /**
+     * @return the smallest key, it stays in the heap
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * removes the smallest key. the slot at {@link #size()} (the former last one) is no longer used by the heap
+     *
+     * @return the smallest key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public long pop() {
+        if (size == 0) {
+            throw new NoSuchElementException("heap is empty");
+        }
+        long top = heap[0];
+        long last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return top;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = Math.max(DEFAULT_CAPACITY, heap.length + (heap.length >> 1));
+        if (capacity < 0) {
+            capacity = Integer.MAX_VALUE - 8;
+        }
+        heap = Arrays.copyOf(heap, capacity);
+    }
+
+    /**
+     * puts key to position i or above it, moving the greater parents down
+     */
+    private void siftUp(int i, long key) {
+        long[] h = heap;
+        while (i > 0) {
+            int parent = (i - 1) / d;
+            long p = h[parent];
+            if (p <= key) break;
+            h[i] = p;
+            i = parent;
+        }
+        h[i] = key;
+    }
+
+    /**
+     * puts key to position i or below it, moving the smallest children up
+     */
+    private void siftDown(int i, long key) {
+        long[] h = heap;
+        int n = size;
+        if (n <= 1) {
+            // (n - 2) / d truncates to 0 for n == 1, it would let node 0 look for a child at 1
+            h[i] = key;
+            return;
+        }
+        // node i has children if d * i + 1 < n, i.e. i <= (n - 2) / d, which can't overflow like d * i + 1 can
+        int lastParent = (n - 2) / d;
+        while (i <= lastParent) {
+            int first = d * i + 1;
+            int end = Math.min(first + d, n);
+            int min = first;
+            long minKey = h[first];
+            for (int c = first + 1; c < end; c++) {
+                long k = h[c];
+                if (k < minKey) {
+                    minKey = k;
+                    min = c;
+                }
+            }
+            if (minKey >= key) break;
+            h[i] = minKey;
+            i = min;
+        }
+        h[i] = key;
+    }
+}
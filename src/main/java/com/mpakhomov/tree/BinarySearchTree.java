@@ -3,6 +3,8 @@ package com.mpakhomov.tree;
 import com.mpakhomov.seq.Sequence;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Based on Introduction to Algorithms, third edition
@@ -15,6 +17,9 @@ import java.util.*;
  */
 public class BinarySearchTree<T extends Comparable<T>> {
 
+    /** subtrees smaller than that are built by a single thread in {@link #parallelFromSorted(List)} */
+    static final int PARALLEL_BUILD_THRESHOLD = 1 << 13;
+
     protected int size;
     protected BstNode<T> root;
 
@@ -89,6 +94,119 @@ public class BinarySearchTree<T extends Comparable<T>> {
     }
 
 
+    /**
+     * Build a perfectly balanced tree from sorted keys in O(N) time. The middle key becomes the root and the
+     * halves are built recursively, so the height is floor(log2(N)) + 1. The keys are consumed in order and
+     * never compared: it's the caller's responsibility to pass them sorted, otherwise the tree is not a BST
+     *
+     * @param keys sorted keys, the first {@code size} of them are taken
+     * @param size number of keys
+     * @param <T>  the type of keys maintained by this tree
+     * @return a new tree
+     * @throws NoSuchElementException   if there are fewer than {@code size} keys
+     * @throws IllegalArgumentException if size is negative
+     */
+    public static <T extends Comparable<T>> BinarySearchTree<T> fromSorted(Iterator<? extends T> keys, int size) {
+        BinarySearchTree<T> tree = new BinarySearchTree<>();
+        tree.root = buildFromSorted(keys, size, (key, depth) -> new BstNode<>(key));
+        tree.size = size;
+        return tree;
+    }
+
+    /**
+     * The same as {@link #fromSorted(Iterator, int)}, but the left and right halves of large subtrees are built
+     * in parallel in the common fork/join pool
+     *
+     * @param keys sorted keys
+     * @param <T>  the type of keys maintained by this tree
+     * @return a new tree
+     */
+    public static <T extends Comparable<T>> BinarySearchTree<T> parallelFromSorted(List<? extends T> keys) {
+        BinarySearchTree<T> tree = new BinarySearchTree<>();
+        tree.root = parallelBuildFromSorted(keys, (key, depth) -> new BstNode<>(key));
+        tree.size = keys.size();
+        return tree;
+    }
+
+    /**
+     * Creates a node for bulk loading. Depth of the root is 0
+     *
+     * @param <T> the type of keys maintained by this tree
+     */
+    interface NodeFactory<T extends Comparable<T>> {
+        BstNode<T> newNode(T key, int depth);
+    }
+
+    /**
+     * @return root of a perfectly balanced tree of the keys, see {@link #fromSorted(Iterator, int)}
+     */
+    static <T extends Comparable<T>> BstNode<T> buildFromSorted(Iterator<? extends T> keys, int size,
+                                                               NodeFactory<T> factory) {
+        Objects.requireNonNull(keys);
+        if (size < 0) {
+            throw new IllegalArgumentException("size is negative: " + size);
+        }
+        return buildFromSorted(keys, 0, size - 1, 0, factory);
+    }
+
+    // in-order: the left subtree takes the keys before the middle one, the right subtree the keys after it
+    private static <T extends Comparable<T>> BstNode<T> buildFromSorted(Iterator<? extends T> keys, int lo, int hi,
+                                                                       int depth, NodeFactory<T> factory) {
+        if (lo > hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        BstNode<T> left = buildFromSorted(keys, lo, mid - 1, depth + 1, factory);
+        BstNode<T> node = factory.newNode(keys.next(), depth);
+        BstNode<T> right = buildFromSorted(keys, mid + 1, hi, depth + 1, factory);
+        return link(node, left, right);
+    }
+
+    /**
+     * @return root of a perfectly balanced tree of the keys, large subtrees are built in parallel
+     */
+    static <T extends Comparable<T>> BstNode<T> parallelBuildFromSorted(List<? extends T> keys,
+                                                                       NodeFactory<T> factory) {
+        // a random access copy, the halves are built independently
+        Object[] a = keys.toArray();
+        return ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(
+                () -> parallelBuildFromSorted(a, 0, a.length - 1, 0, factory)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> BstNode<T> parallelBuildFromSorted(Object[] keys, int lo, int hi,
+                                                                               int depth, NodeFactory<T> factory) {
+        if (lo > hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        BstNode<T> left;
+        BstNode<T> right;
+        if (hi - lo >= PARALLEL_BUILD_THRESHOLD) {
+            ForkJoinTask<BstNode<T>> leftTask = ForkJoinTask.adapt(
+                    () -> parallelBuildFromSorted(keys, lo, mid - 1, depth + 1, factory)).fork();
+            right = parallelBuildFromSorted(keys, mid + 1, hi, depth + 1, factory);
+            left = leftTask.join();
+        } else {
+            left = parallelBuildFromSorted(keys, lo, mid - 1, depth + 1, factory);
+            right = parallelBuildFromSorted(keys, mid + 1, hi, depth + 1, factory);
+        }
+        return link(factory.newNode((T) keys[mid], depth), left, right);
+    }
+
+    private static <T extends Comparable<T>> BstNode<T> link(BstNode<T> node, BstNode<T> left, BstNode<T> right) {
+        node.left = left;
+        if (left != null) {
+            left.parent = node;
+        }
+        node.right = right;
+        if (right != null) {
+            right.parent = node;
+        }
+        node.updateSubtree();
+        return node;
+    }
+
     /**
      * Search for an element in the BST.
      * Runs in O(log(h)) time, where h is the size of the tree
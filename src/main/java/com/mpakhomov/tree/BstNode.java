@@ -17,6 +17,13 @@ public class BstNode<T extends Comparable<T>> {
         this.key = key;
     }
 
+    /**
+     * Recomputes the fields that summarize the subtree rooted at this node from its children. It's called
+     * whenever the children of a node change. An ordinary BST keeps no such fields
+     */
+    void updateSubtree() {
+    }
+
     @Override
     public String toString() {
         return "key = " + key + ", left = " + (left != null ? left.key : "null") +
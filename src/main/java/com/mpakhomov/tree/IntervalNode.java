@@ -0,0 +1,67 @@
+package com.mpakhomov.tree;
+
+/**
+ * A node of {@link IntervalTree}: a closed interval [key, high] and the maximum high endpoint in its subtree
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ * @param <T> the type of endpoints
+ */
+public class IntervalNode<T extends Comparable<T>> extends RbtNode<T> {
+    T high;
+    T max;
+
+    public IntervalNode(T low, T high, boolean color) {
+        super(low, color);
+        this.high = high;
+        this.max = high;
+    }
+
+    /**
+     * the children and the parent of an {@link RbtNode} are raw {@link BstNode}s, in an interval tree they are all
+     * interval nodes. nodes are cast only here
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Comparable<T>> IntervalNode<T> node(BstNode<?> p) {
+        return (IntervalNode<T>) p;
+    }
+
+    /**
+     * @return low endpoint, the key of the node
+     */
+    @SuppressWarnings("unchecked")
+    T low() {
+        return (T) key;
+    }
+
+    @Override
+    void updateSubtree() {
+        super.updateSubtree();
+        T m = high;
+        IntervalNode<T> l = node(left);
+        IntervalNode<T> r = node(right);
+        if (l != null && l.max.compareTo(m) > 0) {
+            m = l.max;
+        }
+        if (r != null && r.max.compareTo(m) > 0) {
+            m = r.max;
+        }
+        max = m;
+    }
+
+    @Override
+    void copyFrom(RbtNode<T> y) {
+        super.copyFrom(y);
+        high = IntervalNode.<T>node(y).high;
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + ", high = " + high + ", max = " + max;
+    }
+
+    @Override
+    public String getKeyAsString() {
+        return "[" + key + "," + high + "]:" + (color == RedBlackTree.BLACK ? "B" : "R");
+    }
+}
@@ -0,0 +1,206 @@
+package com.mpakhomov.tree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Interval tree: a set of closed intervals [low, high] that answers "which intervals overlap [a, b]".
+ * Based on CLRS, chapter 14.3.
+ * <p>
+ * It's a {@link RedBlackTree} of {@link IntervalNode}s keyed by the low endpoint. Every node also keeps the
+ * maximum high endpoint of its subtree. {@link IntervalNode#updateSubtree()} recomputes it. The rotations,
+ * {@link RedBlackTree#rbInsertFixUp(RbtNode)} and {@link RedBlackTree#rbtDelete1(RbtNode)} call it
+ * bottom up, in the same way as they keep subtree sizes. A subtree whose max is less than a is skipped by
+ * a search, and so is everything to the right of a node whose low is greater than b.
+ * <p>
+ * Equal intervals are allowed, every copy is stored.
+ * <p>
+ * Performance: insert, delete, anyOverlap: O(logN), allOverlaps: O(min(N, (k + 1) * logN)), where k is the
+ * number of overlapping intervals; a search only goes down the subtrees that have at least one of them
+ * Space: O(N)
+ *
+ * @param <T> the type of endpoints
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class IntervalTree<T extends Comparable<T>> {
+
+    final RedBlackTree<T> tree = new RedBlackTree<>();
+
+    /**
+     * An immutable closed interval [low, high]
+     *
+     * @param <T> the type of endpoints
+     */
+    public static final class Interval<T extends Comparable<T>> {
+        private final T low;
+        private final T high;
+
+        public Interval(T low, T high) {
+            this.low = low;
+            this.high = high;
+        }
+
+        public T getLow() {
+            return low;
+        }
+
+        public T getHigh() {
+            return high;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Interval)) {
+                return false;
+            }
+            Interval<?> that = (Interval<?>) o;
+            return low.equals(that.low) && high.equals(that.high);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * low.hashCode() + high.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "[" + low + ", " + high + "]";
+        }
+    }
+
+    /**
+     * get number of intervals in the tree
+     *
+     * @return number of intervals
+     */
+    public int getSize() {
+        return tree.getSize();
+    }
+
+    /**
+     * get root of the tree
+     *
+     * @return root of the tree
+     */
+    public IntervalNode<T> getRoot() {
+        return IntervalNode.node(tree.getRoot());
+    }
+
+    /**
+     * Insert an interval. Runs in O(logN) time
+     *
+     * @param low  low endpoint, inclusive
+     * @param high high endpoint, inclusive
+     * @throws IllegalArgumentException if low > high
+     */
+    @SuppressWarnings("unchecked") // RedBlackTree extends the raw BinarySearchTree
+    public void insert(T low, T high) {
+        checkInterval(low, high);
+        IntervalNode<T> node = new IntervalNode<>(low, high, RedBlackTree.RED);
+        tree.insert(node);
+        tree.rbInsertFixUp(node);
+    }
+
+    /**
+     * Delete an interval. If the tree has several copies of it, only one is deleted.
+     * Runs in O(logN + d) time, where d is the number of intervals with the same low endpoint
+     *
+     * @param low  low endpoint
+     * @param high high endpoint
+     * @return true if the interval was found and deleted, false otherwise
+     */
+    public boolean delete(T low, T high) {
+        checkInterval(low, high);
+        // equal keys may end up on both sides of a node after rotations, so start from the first one
+        IntervalNode<T> x = getRoot();
+        IntervalNode<T> first = null;
+        while (x != null) {
+            if (low.compareTo(x.low()) <= 0) {
+                first = x;
+                x = IntervalNode.node(x.left);
+            } else {
+                x = IntervalNode.node(x.right);
+            }
+        }
+        for (x = first; x != null && low.compareTo(x.low()) == 0; x = successor(x)) {
+            if (high.compareTo(x.high) == 0) {
+                tree.rbtDelete1(x);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find an interval that overlaps [low, high]. Runs in O(logN) time: if the left subtree's max is less than
+     * low, nothing in it overlaps, otherwise, if nothing in the left subtree overlaps, nothing in the right
+     * one does either, because all of its lows are greater
+     *
+     * @param low  low endpoint, inclusive
+     * @param high high endpoint, inclusive
+     * @return an overlapping interval, or null if there is none
+     */
+    public Interval<T> anyOverlap(T low, T high) {
+        checkInterval(low, high);
+        IntervalNode<T> x = getRoot();
+        while (x != null && !overlaps(x, low, high)) {
+            IntervalNode<T> left = IntervalNode.node(x.left);
+            if (left != null && left.max.compareTo(low) >= 0) {
+                x = left;
+            } else {
+                x = IntervalNode.node(x.right);
+            }
+        }
+        return x == null ? null : new Interval<>(x.low(), x.high);
+    }
+
+    /**
+     * Find all intervals that overlap [low, high], in the order of their low endpoints
+     *
+     * @param low  low endpoint, inclusive
+     * @param high high endpoint, inclusive
+     * @return overlapping intervals
+     */
+    public List<Interval<T>> allOverlaps(T low, T high) {
+        checkInterval(low, high);
+        List<Interval<T>> result = new ArrayList<>();
+        allOverlaps(getRoot(), low, high, result);
+        return result;
+    }
+
+    private void allOverlaps(IntervalNode<T> x, T low, T high, List<Interval<T>> acc) {
+        while (x != null && x.max.compareTo(low) >= 0) {
+            allOverlaps(IntervalNode.node(x.left), low, high, acc);
+            if (x.low().compareTo(high) > 0) {
+                // x and its right subtree start after high
+                return;
+            }
+            if (x.high.compareTo(low) >= 0) {
+                acc.add(new Interval<>(x.low(), x.high));
+            }
+            x = IntervalNode.node(x.right);
+        }
+    }
+
+    private static <T extends Comparable<T>> boolean overlaps(IntervalNode<T> x, T low, T high) {
+        return x.low().compareTo(high) <= 0 && x.high.compareTo(low) >= 0;
+    }
+
+    private static <T extends Comparable<T>> IntervalNode<T> successor(IntervalNode<T> x) {
+        return IntervalNode.node(BinarySearchTree.successor((BstNode<?>) x));
+    }
+
+    private static <T extends Comparable<T>> void checkInterval(T low, T high) {
+        Objects.requireNonNull(low);
+        Objects.requireNonNull(high);
+        if (low.compareTo(high) > 0) {
+            throw new IllegalArgumentException("low endpoint " + low + " is greater than high endpoint " + high);
+        }
+    }
+}
@@ -10,6 +10,9 @@ package com.mpakhomov.tree;
 public class RbtNode<T extends Comparable<T>> extends BstNode {
     boolean color = RedBlackTree.BLACK;
 
+    /** number of nodes in the subtree rooted at this node, it makes order statistics O(logN) */
+    int size = 1;
+
     public RbtNode(T key, boolean color) {
         super(key);
         this.color = color;
@@ -21,6 +24,26 @@ public class RbtNode<T extends Comparable<T>> extends BstNode {
         this.parent = parent;
     }
 
+    /**
+     * Copies the payload of node {@code y} to this node. Deletion of a node with two children replaces
+     * its contents with the contents of its successor and unlinks the successor instead. Subclasses that
+     * carry more than a key override it
+     *
+     * @param y node to copy the payload from
+     */
+    void copyFrom(RbtNode<T> y) {
+        key = y.key;
+    }
+
+    /**
+     * Recomputes the fields that summarize the subtree rooted at this node from its children: its size.
+     * It's called bottom up whenever the children of a node change, by rotations, insertion and deletion.
+     * Subclasses that keep more of such fields override it
+     */
+    @Override
+    void updateSubtree() {
+        size = 1 + RedBlackTree.sizeOf(left) + RedBlackTree.sizeOf(right);
+    }
 
     @Override
     public String toString() {
@@ -1,6 +1,9 @@
 package com.mpakhomov.tree;
 
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 
 /**
@@ -8,6 +11,9 @@ import java.util.Objects;
  * By Thomas H. Cormen, Charles E. Leiserson, Ronald L. Rivest and Clifford Stein
  * aka CLRS book
  *
+ * <p>It's an order-statistic tree (CLRS, chapter 14): every node keeps the size of its subtree, so
+ * {@link #select(int)}, {@link #rank(Comparable)} and {@link #countInRange(Comparable, Comparable)} run in O(logN)
+ *
  * @author mpakhomov
  * @since: 7/6/2015
  * @param <T> the type of keys maintained by this tree
@@ -29,6 +35,135 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
         rbInsertFixUp(rbtEntry);
     }
 
+    /**
+     * Build a red black tree from sorted keys in O(N) time, with no comparisons and no fix-ups. The tree is
+     * perfectly balanced, see {@link BinarySearchTree#fromSorted(Iterator, int)}: every level is full, except,
+     * maybe, the last one. Its nodes are red and all the others are black, so every path from the root to a leaf
+     * has the same number of black nodes. Subtree sizes are computed on the way up
+     *
+     * @param keys sorted keys, the first {@code size} of them are taken
+     * @param size number of keys
+     * @param <T>  the type of keys maintained by this tree
+     * @return a new tree
+     * @throws NoSuchElementException   if there are fewer than {@code size} keys
+     * @throws IllegalArgumentException if size is negative
+     */
+    @SuppressWarnings("unchecked") // hides BinarySearchTree.fromSorted of the raw supertype
+    public static <T extends Comparable<T>> RedBlackTree<T> fromSorted(Iterator<? extends T> keys, int size) {
+        RedBlackTree<T> tree = new RedBlackTree<>();
+        tree.root(buildFromSorted(keys, size, nodeFactory(size)));
+        tree.size = size;
+        return tree;
+    }
+
+    /**
+     * The same as {@link #fromSorted(Iterator, int)}, but the left and right halves of large subtrees are built
+     * in parallel in the common fork/join pool
+     *
+     * @param keys sorted keys
+     * @param <T>  the type of keys maintained by this tree
+     * @return a new tree
+     */
+    @SuppressWarnings("unchecked") // hides BinarySearchTree.parallelFromSorted, see fromSorted
+    public static <T extends Comparable<T>> RedBlackTree<T> parallelFromSorted(List<? extends T> keys) {
+        RedBlackTree<T> tree = new RedBlackTree<>();
+        tree.root(parallelBuildFromSorted(keys, nodeFactory(keys.size())));
+        tree.size = keys.size();
+        return tree;
+    }
+
+    /**
+     * @return factory of nodes of a perfectly balanced tree of the given size: the nodes of the bottom level are
+     * red, if it's not full, the others are black
+     */
+    private static <T extends Comparable<T>> NodeFactory<T> nodeFactory(int size) {
+        // the depth of the deepest full level plus one. for 2^k - 1 nodes there are no nodes at that depth
+        final int redLevel = 31 - Integer.numberOfLeadingZeros(size + 1);
+        return (key, depth) -> new RbtNode<>(key, depth == redLevel ? RED : BLACK);
+    }
+
+    /**
+     * sets the root. the field is declared in the raw supertype, so every assignment to it is unchecked
+     *
+     * @param root new root, or null
+     */
+    @SuppressWarnings("unchecked")
+    void root(BstNode<?> root) {
+        this.root = root;
+    }
+
+    /**
+     * Find the i-th smallest key (i-th order statistic), counting from zero. Every node knows the size of its
+     * subtree, so it's a single walk down the tree: O(logN) time. For example, the 99th percentile of the keys
+     * is {@code select((int) Math.ceil(0.99 * getSize()) - 1)}
+     *
+     * @param i index of the key in sorted order, in [0, getSize())
+     * @return the i-th smallest key
+     * @throws IndexOutOfBoundsException if i is out of [0, getSize())
+     */
+    public T select(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("index " + i + " is out of [0, " + size + ")");
+        }
+        BstNode<T> x = root;
+        while (true) {
+            int leftSize = sizeOf(x.left);
+            if (i < leftSize) {
+                x = x.left;
+            } else if (i > leftSize) {
+                i -= leftSize + 1;
+                x = x.right;
+            } else {
+                return x.key;
+            }
+        }
+    }
+
+    /**
+     * Count the keys that are less than the given key. The key doesn't have to be in the tree.
+     * Runs in O(logN) time
+     *
+     * @param key key
+     * @return number of keys less than the key, which is the index of the key if the tree has it
+     */
+    public int rank(T key) {
+        return countLess(key, false);
+    }
+
+    /**
+     * Count the keys within the closed range [lo, hi]. Runs in O(logN) time
+     *
+     * @param lo lower bound, inclusive
+     * @param hi upper bound, inclusive
+     * @return number of keys k such that lo <= k <= hi, 0 if lo > hi
+     */
+    public int countInRange(T lo, T hi) {
+        if (lo.compareTo(hi) > 0) {
+            return 0;
+        }
+        return countLess(hi, true) - countLess(lo, false);
+    }
+
+    /**
+     * @return number of keys less than the key, or less than or equal to it if inclusive
+     */
+    private int countLess(T key, boolean inclusive) {
+        Objects.requireNonNull(key);
+        int count = 0;
+        BstNode<T> x = root;
+        while (x != null) {
+            int cmp = key.compareTo(x.key);
+            if (cmp > 0 || (cmp == 0 && inclusive)) {
+                // x and its left subtree are counted
+                count += sizeOf(x.left) + 1;
+                x = x.right;
+            } else {
+                x = x.left;
+            }
+        }
+        return count;
+    }
+
 
 
 
@@ -39,6 +174,8 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
      */
     public void rbInsertFixUp(RbtNode<T> z) {
         z.color = RED;
+        // z has just been linked as a leaf: every ancestor has one more node in its subtree
+        updateToRoot(z.parent);
 
         // in the book there is no z != root check, because if z is root, then its parent is
         // a black sentinel (fake) element Nil. In pseudo-code z.p.color == RED doesn't cause
@@ -129,7 +266,7 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
         // copy successor's element to z and then make z point to successor.
         if (z.left != null && z.right != null) {
             RbtNode<T> y = (RbtNode<T>)successor(z);
-            z.key = y.key;
+            z.copyFrom(y);
             z = y;
         } // z has 2 children
 
@@ -139,6 +276,7 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
         if (replacement != null) {
             // Link replacement to parent
             rbTransplant(z, replacement);
+            updateToRoot(replacement.parent);
 
             // Fix replacement
             if (z.color == BLACK) {
@@ -149,7 +287,7 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
             if (z.color == BLACK) {
                 rbDeleteFixUp(z);
             }
-            unlinkFromParentAndNullify(z);
+            updateToRoot(unlinkFromParentAndNullify(z));
         }
         size--;
     }
@@ -190,21 +328,24 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
             // z has only left child. replace z with z.left
             x = (RbtNode<T>) z.left;
             rbTransplant(z, (RbtNode) z.left);
+            updateToRoot(x.parent);
         } else if (z.left == null && z.right != null) {
             // z has only right child. replace z with z.right
             x = (RbtNode<T>) z.right;
             rbTransplant(z, (RbtNode) z.right);
+            updateToRoot(x.parent);
         } else  if (z.left != null && z.right != null) {
             // z has 2 children
             y = (RbtNode<T>) successor(z);
             // replace z with its successor y
-            z.key = y.key;
+            z.copyFrom(y);
             // replacement element is a right child, because:
             // if a node in a binary search tree has two children, then its successor has no left child
             if (y.left != null) throw new RuntimeException("Can't happen");
             x = (RbtNode<T>) y.right;
             if (x != null) {
                 rbTransplant(y, x);
+                updateToRoot(x.parent);
             } else {
                 // use z's successor y as a phantom replacement element
                 x = y;
@@ -221,12 +362,17 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
             rbDeleteFixUp(x);
         }
         if (isPhantomReplacement) {
-            unlinkFromParentAndNullify(x);
+            // the phantom is counted in the subtrees of its ancestors until it's unlinked
+            updateToRoot(unlinkFromParentAndNullify(x));
         }
         size--;
     }
 
-    private void unlinkFromParentAndNullify(RbtNode<T> p) {
+    /**
+     * @return former parent of p
+     */
+    private BstNode<T> unlinkFromParentAndNullify(RbtNode<T> p) {
+        BstNode<T> parent = p.parent;
         if (p.parent != null) {
             if (p == p.parent.left) {
                 p.parent.left = null;
@@ -235,6 +381,20 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
             }
             p.parent = null;
         }
+        return parent;
+    }
+
+    /**
+     * Recomputes the subtree fields (see {@link RbtNode#updateSubtree()}) of x and all its ancestors, bottom up.
+     * Runs in O(logN) time
+     *
+     * @param x node to start from, can be null
+     */
+    void updateToRoot(BstNode<?> x) {
+        while (x != null) {
+            ((RbtNode) x).updateSubtree();
+            x = x.parent;
+        }
     }
 
     /**
@@ -342,6 +502,9 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
         }
         y.left = x; // put x on y's left
         x.parent = y;
+        // x is a child of y now, so it goes first
+        ((RbtNode) x).updateSubtree();
+        ((RbtNode) y).updateSubtree();
     }
 
     /**
@@ -379,6 +542,8 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
         }
         y.right = x; // put x on y's right
         x.parent = y;
+        ((RbtNode) x).updateSubtree();
+        ((RbtNode) y).updateSubtree();
     }
 
     /**
@@ -412,6 +577,10 @@ public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree {
     // utility methods to avoid NPE when p is null. Also, they cast {@link BstEntry} to {@code RbtEntry},
     // so that I don't have to write boilerplate code in the algorithms implementation. I want to keep
     // RBT algorithms implementation as clean as it's possible
+    static int sizeOf(BstNode<?> p) {
+        return (p == null) ? 0 : ((RbtNode) p).size;
+    }
+
     static <T extends Comparable<T>> boolean colorOf(BstNode<T> p) {
         return (p == null) ? BLACK: ((RbtNode)p).color;
     }
@@ -0,0 +1,1064 @@
+package com.mpakhomov.tree;
+
+import java.util.*;
+
+/**
+ * A {@link NavigableMap} backed by {@link RedBlackTree}. Keys are ordered by their natural ordering, null keys
+ * are not permitted, null values are.
+ * <p>
+ * Every entry is a node of the tree: {@link RbtNode} plus a value, so an entry costs as much memory as an entry
+ * of {@link TreeMap}. Insertion walks down the tree once and then runs {@link RedBlackTree#rbInsertFixUp(RbtNode)},
+ * deletion is {@link RedBlackTree#rbtDelete1(RbtNode)}. Iterators, and the views returned by
+ * {@link #subMap(Object, boolean, Object, boolean)}, {@link #headMap(Object, boolean)},
+ * {@link #tailMap(Object, boolean)} and {@link #descendingMap()}, walk the tree with
+ * {@link BinarySearchTree#successor(BstNode)} and {@link BinarySearchTree#predecessor(BstNode)}.
+ * <p>
+ * Iterators are fail-fast: if the map is structurally modified after an iterator is created in any way except
+ * through the iterator's own remove method, the iterator throws {@link ConcurrentModificationException}.
+ * The map is not synchronized.
+ * <p>
+ * Performance: get, put, remove, floor, ceiling, higher, lower: O(log n), iteration: O(1) amortized per entry,
+ * size of a view: O(k), where k is the number of entries in the view
+ * Space: O(n)
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class RedBlackTreeMap<K extends Comparable<K>, V> extends AbstractMap<K, V> implements NavigableMap<K, V> {
+
+    final RedBlackTree<K> tree = new RedBlackTree<>();
+
+    /** number of structural modifications, to make iterators fail-fast */
+    int modCount;
+
+    private EntrySet entrySet;
+    private KeySet<K> navigableKeySet;
+
+    /**
+     * A node of the tree that holds a value
+     *
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     */
+    static final class Node<K extends Comparable<K>, V> extends RbtNode<K> implements Map.Entry<K, V> {
+        V value;
+
+        Node(K key, V value, Node<K, V> parent) {
+            super(key, RedBlackTree.RED, parent);
+            this.value = value;
+        }
+
+        @Override
+        void copyFrom(RbtNode<K> y) {
+            super.copyFrom(y);
+            value = RedBlackTreeMap.<K, V>node(y).value;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K) key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = this.value;
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, e.getKey()) && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * the children and the parent of an {@link RbtNode} are raw {@link BstNode}s, in the map they are all
+     * {@link Node}s. nodes are cast only here
+     */
+    @SuppressWarnings("unchecked")
+    static <K extends Comparable<K>, V> Node<K, V> node(BstNode<?> p) {
+        return (Node<K, V>) p;
+    }
+
+    @Override
+    public int size() {
+        return tree.getSize();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getNode(key) != null;
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> p = getNode(key);
+        return p == null ? null : p.value;
+    }
+
+    /**
+     * Associates the value with the key. If the map already has the key, the value is replaced, which is not a
+     * structural modification
+     *
+     * @param key   key, not null
+     * @param value value
+     * @return the previous value associated with the key, or null if there was none
+     */
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        Node<K, V> parent = null;
+        Node<K, V> x = node(tree.root);
+        int cmp = 0;
+        while (x != null) {
+            parent = x;
+            cmp = key.compareTo(x.getKey());
+            if (cmp < 0) {
+                x = node(x.left);
+            } else if (cmp > 0) {
+                x = node(x.right);
+            } else {
+                return x.setValue(value);
+            }
+        }
+        Node<K, V> z = new Node<>(key, value, parent);
+        if (parent == null) {
+            tree.root(z);
+        } else {
+            link(parent, z, cmp < 0);
+        }
+        tree.size++;
+        modCount++;
+        tree.rbInsertFixUp(z);
+        return null;
+    }
+
+    /**
+     * makes z the left or the right child of the parent. the links are fields of the raw {@link BstNode}, so
+     * every assignment to them is unchecked
+     */
+    @SuppressWarnings("unchecked")
+    private static <K extends Comparable<K>, V> void link(Node<K, V> parent, Node<K, V> z, boolean left) {
+        if (left) {
+            parent.left = z;
+        } else {
+            parent.right = z;
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> p = getNode(key);
+        if (p == null) {
+            return null;
+        }
+        V oldValue = p.value;
+        deleteNode(p);
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        tree.root(null);
+        tree.size = 0;
+    }
+
+    /**
+     * @return node with the given key, or null if there is none
+     * @throws ClassCastException   if the key can't be compared with the keys of the map
+     * @throws NullPointerException if the key is null
+     */
+    @SuppressWarnings("unchecked")
+    Node<K, V> getNode(Object key) {
+        Objects.requireNonNull(key);
+        K k = (K) key;
+        Node<K, V> x = node(tree.root);
+        while (x != null) {
+            int cmp = k.compareTo(x.getKey());
+            if (cmp < 0) {
+                x = node(x.left);
+            } else if (cmp > 0) {
+                x = node(x.right);
+            } else {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Deletes the node. If it has two children, the node gets the key and the value of its successor and the
+     * successor is unlinked instead
+     */
+    void deleteNode(Node<K, V> p) {
+        modCount++;
+        tree.rbtDelete1(p);
+    }
+
+    Node<K, V> firstNode() {
+        return tree.root == null ? null : node(BinarySearchTree.treeMinimum((BstNode<?>) tree.root));
+    }
+
+    Node<K, V> lastNode() {
+        return tree.root == null ? null : node(BinarySearchTree.treeMaximum((BstNode<?>) tree.root));
+    }
+
+    /**
+     * @return node with the least key greater than or equal to the key (greater than the key if not inclusive),
+     * or null if there is none
+     */
+    Node<K, V> ceilingNode(K key, boolean inclusive) {
+        Objects.requireNonNull(key);
+        Node<K, V> x = node(tree.root);
+        Node<K, V> best = null;
+        while (x != null) {
+            int cmp = key.compareTo(x.getKey());
+            if (cmp < 0 || (cmp == 0 && inclusive)) {
+                if (cmp == 0) {
+                    return x;
+                }
+                best = x;
+                x = node(x.left);
+            } else {
+                x = node(x.right);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @return node with the greatest key less than or equal to the key (less than the key if not inclusive),
+     * or null if there is none
+     */
+    Node<K, V> floorNode(K key, boolean inclusive) {
+        Objects.requireNonNull(key);
+        Node<K, V> x = node(tree.root);
+        Node<K, V> best = null;
+        while (x != null) {
+            int cmp = key.compareTo(x.getKey());
+            if (cmp > 0 || (cmp == 0 && inclusive)) {
+                if (cmp == 0) {
+                    return x;
+                }
+                best = x;
+                x = node(x.right);
+            } else {
+                x = node(x.left);
+            }
+        }
+        return best;
+    }
+
+    static <K extends Comparable<K>, V> Node<K, V> successor(Node<K, V> p) {
+        return node(BinarySearchTree.successor((BstNode<?>) p));
+    }
+
+    static <K extends Comparable<K>, V> Node<K, V> predecessor(Node<K, V> p) {
+        return node(BinarySearchTree.predecessor((BstNode<?>) p));
+    }
+
+    /**
+     * @return an immutable snapshot of the entry, or null
+     */
+    static <K, V> Map.Entry<K, V> exportEntry(Map.Entry<K, V> e) {
+        return e == null ? null : new AbstractMap.SimpleImmutableEntry<>(e);
+    }
+
+    static <K> K keyOrNull(Map.Entry<K, ?> e) {
+        return e == null ? null : e.getKey();
+    }
+
+    static <K> K keyOrThrow(Map.Entry<K, ?> e) {
+        if (e == null) {
+            throw new NoSuchElementException();
+        }
+        return e.getKey();
+    }
+
+    // NavigableMap API
+
+    /**
+     * @return null, the keys are ordered by their natural ordering
+     */
+    @Override
+    public Comparator<? super K> comparator() {
+        return null;
+    }
+
+    @Override
+    public K firstKey() {
+        return keyOrThrow(firstNode());
+    }
+
+    @Override
+    public K lastKey() {
+        return keyOrThrow(lastNode());
+    }
+
+    @Override
+    public Map.Entry<K, V> firstEntry() {
+        return exportEntry(firstNode());
+    }
+
+    @Override
+    public Map.Entry<K, V> lastEntry() {
+        return exportEntry(lastNode());
+    }
+
+    @Override
+    public Map.Entry<K, V> pollFirstEntry() {
+        return poll(firstNode());
+    }
+
+    @Override
+    public Map.Entry<K, V> pollLastEntry() {
+        return poll(lastNode());
+    }
+
+    Map.Entry<K, V> poll(Node<K, V> p) {
+        Map.Entry<K, V> result = exportEntry(p);
+        if (p != null) {
+            deleteNode(p);
+        }
+        return result;
+    }
+
+    @Override
+    public Map.Entry<K, V> lowerEntry(K key) {
+        return exportEntry(floorNode(key, false));
+    }
+
+    @Override
+    public K lowerKey(K key) {
+        return keyOrNull(floorNode(key, false));
+    }
+
+    @Override
+    public Map.Entry<K, V> floorEntry(K key) {
+        return exportEntry(floorNode(key, true));
+    }
+
+    @Override
+    public K floorKey(K key) {
+        return keyOrNull(floorNode(key, true));
+    }
+
+    @Override
+    public Map.Entry<K, V> ceilingEntry(K key) {
+        return exportEntry(ceilingNode(key, true));
+    }
+
+    @Override
+    public K ceilingKey(K key) {
+        return keyOrNull(ceilingNode(key, true));
+    }
+
+    @Override
+    public Map.Entry<K, V> higherEntry(K key) {
+        return exportEntry(ceilingNode(key, false));
+    }
+
+    @Override
+    public K higherKey(K key) {
+        return keyOrNull(ceilingNode(key, false));
+    }
+
+    // views
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        EntrySet es = entrySet;
+        return es != null ? es : (entrySet = new EntrySet());
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return navigableKeySet();
+    }
+
+    @Override
+    public NavigableSet<K> navigableKeySet() {
+        KeySet<K> ks = navigableKeySet;
+        return ks != null ? ks : (navigableKeySet = new KeySet<>(this));
+    }
+
+    @Override
+    public NavigableSet<K> descendingKeySet() {
+        return descendingMap().navigableKeySet();
+    }
+
+    @Override
+    public NavigableMap<K, V> descendingMap() {
+        return new SubMap<>(this, true, null, true, true, null, true, true);
+    }
+
+    @Override
+    public NavigableMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+        return new SubMap<>(this, false, fromKey, fromInclusive, false, toKey, toInclusive, false);
+    }
+
+    @Override
+    public NavigableMap<K, V> headMap(K toKey, boolean inclusive) {
+        return new SubMap<>(this, true, null, true, false, toKey, inclusive, false);
+    }
+
+    @Override
+    public NavigableMap<K, V> tailMap(K fromKey, boolean inclusive) {
+        return new SubMap<>(this, false, fromKey, inclusive, true, null, true, false);
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey) {
+        return subMap(fromKey, true, toKey, false);
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K toKey) {
+        return headMap(toKey, false);
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K fromKey) {
+        return tailMap(fromKey, true);
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator<>(RedBlackTreeMap.this, firstNode(), null, false);
+        }
+
+        @Override
+        public int size() {
+            return RedBlackTreeMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return findEntry(o) != null;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            Node<K, V> p = findEntry(o);
+            if (p == null) {
+                return false;
+            }
+            deleteNode(p);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            RedBlackTreeMap.this.clear();
+        }
+
+        private Node<K, V> findEntry(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return null;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            Node<K, V> p = getNode(e.getKey());
+            return p != null && Objects.equals(p.value, e.getValue()) ? p : null;
+        }
+    }
+
+    /**
+     * Iterates over the nodes from {@code first} in ascending or descending order and stops at the fence: the
+     * first node out of range, null means no fence. Removal of a node with two children moves its successor's
+     * contents into it, so the fence is remembered by its key, which moves along, and an ascending iterator
+     * steps back to the removed node
+     */
+    static final class EntryIterator<K extends Comparable<K>, V> implements Iterator<Map.Entry<K, V>> {
+        /** a fence key that matches no node */
+        private static final Object UNBOUNDED = new Object();
+
+        private final RedBlackTreeMap<K, V> m;
+        private final Object fenceKey;
+        private final boolean descending;
+        private Node<K, V> next;
+        private Node<K, V> lastReturned;
+        private int expectedModCount;
+
+        EntryIterator(RedBlackTreeMap<K, V> m, Node<K, V> first, Node<K, V> fence, boolean descending) {
+            this.m = m;
+            this.next = first;
+            this.fenceKey = fence == null ? UNBOUNDED : fence.key;
+            this.descending = descending;
+            this.expectedModCount = m.modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null && next.key != fenceKey;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (m.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            lastReturned = next;
+            next = descending ? predecessor(next) : successor(next);
+            return lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            if (m.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!descending && lastReturned.left != null && lastReturned.right != null) {
+                // the successor's contents are moved to lastReturned
+                next = lastReturned;
+            }
+            m.deleteNode(lastReturned);
+            expectedModCount = m.modCount;
+            lastReturned = null;
+        }
+    }
+
+    /**
+     * A view of a range of keys of the map, in ascending or descending order. The bounds are kept in ascending
+     * order: lo is the lower one and hi is the upper one for either direction
+     */
+    static final class SubMap<K extends Comparable<K>, V> extends AbstractMap<K, V> implements NavigableMap<K, V> {
+        final RedBlackTreeMap<K, V> m;
+        final K lo;
+        final K hi;
+        final boolean fromStart;
+        final boolean toEnd;
+        final boolean loInclusive;
+        final boolean hiInclusive;
+        final boolean descending;
+
+        private Set<Map.Entry<K, V>> entrySet;
+        private KeySet<K> navigableKeySet;
+
+        SubMap(RedBlackTreeMap<K, V> m, boolean fromStart, K lo, boolean loInclusive, boolean toEnd, K hi,
+               boolean hiInclusive, boolean descending) {
+            if (!fromStart) {
+                Objects.requireNonNull(lo);
+            }
+            if (!toEnd) {
+                Objects.requireNonNull(hi);
+            }
+            if (!fromStart && !toEnd && lo.compareTo(hi) > 0) {
+                throw new IllegalArgumentException("fromKey > toKey");
+            }
+            this.m = m;
+            this.fromStart = fromStart;
+            this.lo = lo;
+            this.loInclusive = loInclusive;
+            this.toEnd = toEnd;
+            this.hi = hi;
+            this.hiInclusive = hiInclusive;
+            this.descending = descending;
+        }
+
+        // range checks
+
+        boolean tooLow(K key) {
+            if (!fromStart) {
+                int cmp = key.compareTo(lo);
+                return cmp < 0 || (cmp == 0 && !loInclusive);
+            }
+            return false;
+        }
+
+        boolean tooHigh(K key) {
+            if (!toEnd) {
+                int cmp = key.compareTo(hi);
+                return cmp > 0 || (cmp == 0 && !hiInclusive);
+            }
+            return false;
+        }
+
+        boolean inRange(K key) {
+            return !tooLow(key) && !tooHigh(key);
+        }
+
+        /**
+         * @return true if the key is within the range. an exclusive key may also be equal to an exclusive bound:
+         * a view of [a, b) can have a view of [a, b)
+         */
+        boolean inRange(K key, boolean inclusive) {
+            if (inclusive) {
+                return inRange(key);
+            }
+            return (fromStart || key.compareTo(lo) >= 0) && (toEnd || key.compareTo(hi) <= 0);
+        }
+
+        @SuppressWarnings("unchecked")
+        boolean inRangeObject(Object key) {
+            return inRange((K) Objects.requireNonNull(key));
+        }
+
+        // navigation in ascending order, within the range
+
+        Node<K, V> absLowest() {
+            Node<K, V> p = fromStart ? m.firstNode() : m.ceilingNode(lo, loInclusive);
+            return p == null || tooHigh(p.getKey()) ? null : p;
+        }
+
+        Node<K, V> absHighest() {
+            Node<K, V> p = toEnd ? m.lastNode() : m.floorNode(hi, hiInclusive);
+            return p == null || tooLow(p.getKey()) ? null : p;
+        }
+
+        Node<K, V> absCeiling(K key, boolean inclusive) {
+            if (tooLow(key)) {
+                return absLowest();
+            }
+            Node<K, V> p = m.ceilingNode(key, inclusive);
+            return p == null || tooHigh(p.getKey()) ? null : p;
+        }
+
+        Node<K, V> absFloor(K key, boolean inclusive) {
+            if (tooHigh(key)) {
+                return absHighest();
+            }
+            Node<K, V> p = m.floorNode(key, inclusive);
+            return p == null || tooLow(p.getKey()) ? null : p;
+        }
+
+        /** @return the first node above the range, null if there is none */
+        Node<K, V> absHighFence() {
+            return toEnd ? null : m.ceilingNode(hi, !hiInclusive);
+        }
+
+        /** @return the last node below the range, null if there is none */
+        Node<K, V> absLowFence() {
+            return fromStart ? null : m.floorNode(lo, !loInclusive);
+        }
+
+        // the same in the order of the view
+
+        Node<K, V> lowest() {
+            return descending ? absHighest() : absLowest();
+        }
+
+        Node<K, V> highest() {
+            return descending ? absLowest() : absHighest();
+        }
+
+        Node<K, V> ceiling(K key, boolean inclusive) {
+            return descending ? absFloor(key, inclusive) : absCeiling(key, inclusive);
+        }
+
+        Node<K, V> floor(K key, boolean inclusive) {
+            return descending ? absCeiling(key, inclusive) : absFloor(key, inclusive);
+        }
+
+        Iterator<Map.Entry<K, V>> entryIterator() {
+            return descending
+                    ? new EntryIterator<>(m, absHighest(), absLowFence(), true)
+                    : new EntryIterator<>(m, absLowest(), absHighFence(), false);
+        }
+
+        @Override
+        public int size() {
+            if (fromStart && toEnd) {
+                return m.size();
+            }
+            int size = 0;
+            for (Iterator<Map.Entry<K, V>> it = entryIterator(); it.hasNext(); it.next()) {
+                size++;
+            }
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return fromStart && toEnd ? m.isEmpty() : absLowest() == null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return inRangeObject(key) && m.containsKey(key);
+        }
+
+        @Override
+        public V get(Object key) {
+            return inRangeObject(key) ? m.get(key) : null;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the key is out of the range of this view
+         */
+        @Override
+        public V put(K key, V value) {
+            if (!inRange(Objects.requireNonNull(key))) {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return m.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key) {
+            return inRangeObject(key) ? m.remove(key) : null;
+        }
+
+        @Override
+        public Comparator<? super K> comparator() {
+            return descending ? Collections.reverseOrder() : null;
+        }
+
+        @Override
+        public K firstKey() {
+            return keyOrThrow(lowest());
+        }
+
+        @Override
+        public K lastKey() {
+            return keyOrThrow(highest());
+        }
+
+        @Override
+        public Map.Entry<K, V> firstEntry() {
+            return exportEntry(lowest());
+        }
+
+        @Override
+        public Map.Entry<K, V> lastEntry() {
+            return exportEntry(highest());
+        }
+
+        @Override
+        public Map.Entry<K, V> pollFirstEntry() {
+            return m.poll(lowest());
+        }
+
+        @Override
+        public Map.Entry<K, V> pollLastEntry() {
+            return m.poll(highest());
+        }
+
+        @Override
+        public Map.Entry<K, V> lowerEntry(K key) {
+            return exportEntry(floor(key, false));
+        }
+
+        @Override
+        public K lowerKey(K key) {
+            return keyOrNull(floor(key, false));
+        }
+
+        @Override
+        public Map.Entry<K, V> floorEntry(K key) {
+            return exportEntry(floor(key, true));
+        }
+
+        @Override
+        public K floorKey(K key) {
+            return keyOrNull(floor(key, true));
+        }
+
+        @Override
+        public Map.Entry<K, V> ceilingEntry(K key) {
+            return exportEntry(ceiling(key, true));
+        }
+
+        @Override
+        public K ceilingKey(K key) {
+            return keyOrNull(ceiling(key, true));
+        }
+
+        @Override
+        public Map.Entry<K, V> higherEntry(K key) {
+            return exportEntry(ceiling(key, false));
+        }
+
+        @Override
+        public K higherKey(K key) {
+            return keyOrNull(ceiling(key, false));
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            Set<Map.Entry<K, V>> es = entrySet;
+            return es != null ? es : (entrySet = new AbstractSet<Map.Entry<K, V>>() {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return entryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return SubMap.this.size();
+                }
+
+                @Override
+                public boolean isEmpty() {
+                    return SubMap.this.isEmpty();
+                }
+
+                @Override
+                public boolean contains(Object o) {
+                    if (!(o instanceof Map.Entry)) {
+                        return false;
+                    }
+                    Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                    return inRangeObject(e.getKey()) && m.entrySet().contains(e);
+                }
+
+                @Override
+                public boolean remove(Object o) {
+                    if (!(o instanceof Map.Entry)) {
+                        return false;
+                    }
+                    Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                    return inRangeObject(e.getKey()) && m.entrySet().remove(e);
+                }
+            });
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return navigableKeySet();
+        }
+
+        @Override
+        public NavigableSet<K> navigableKeySet() {
+            KeySet<K> ks = navigableKeySet;
+            return ks != null ? ks : (navigableKeySet = new KeySet<>(this));
+        }
+
+        @Override
+        public NavigableSet<K> descendingKeySet() {
+            return descendingMap().navigableKeySet();
+        }
+
+        @Override
+        public NavigableMap<K, V> descendingMap() {
+            return new SubMap<>(m, fromStart, lo, loInclusive, toEnd, hi, hiInclusive, !descending);
+        }
+
+        @Override
+        public NavigableMap<K, V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive) {
+            checkInRange(fromKey, fromInclusive);
+            checkInRange(toKey, toInclusive);
+            return descending
+                    ? new SubMap<>(m, false, toKey, toInclusive, false, fromKey, fromInclusive, true)
+                    : new SubMap<>(m, false, fromKey, fromInclusive, false, toKey, toInclusive, false);
+        }
+
+        @Override
+        public NavigableMap<K, V> headMap(K toKey, boolean inclusive) {
+            checkInRange(toKey, inclusive);
+            return descending
+                    ? new SubMap<>(m, false, toKey, inclusive, toEnd, hi, hiInclusive, true)
+                    : new SubMap<>(m, fromStart, lo, loInclusive, false, toKey, inclusive, false);
+        }
+
+        @Override
+        public NavigableMap<K, V> tailMap(K fromKey, boolean inclusive) {
+            checkInRange(fromKey, inclusive);
+            return descending
+                    ? new SubMap<>(m, fromStart, lo, loInclusive, false, fromKey, inclusive, true)
+                    : new SubMap<>(m, false, fromKey, inclusive, toEnd, hi, hiInclusive, false);
+        }
+
+        @Override
+        public SortedMap<K, V> subMap(K fromKey, K toKey) {
+            return subMap(fromKey, true, toKey, false);
+        }
+
+        @Override
+        public SortedMap<K, V> headMap(K toKey) {
+            return headMap(toKey, false);
+        }
+
+        @Override
+        public SortedMap<K, V> tailMap(K fromKey) {
+            return tailMap(fromKey, true);
+        }
+
+        private void checkInRange(K key, boolean inclusive) {
+            if (!inRange(Objects.requireNonNull(key), inclusive)) {
+                throw new IllegalArgumentException(key + " is out of range");
+            }
+        }
+    }
+
+    /**
+     * Keys of a map or of a view of it, backed by the map
+     *
+     * @param <K> the type of keys
+     */
+    static final class KeySet<K> extends AbstractSet<K> implements NavigableSet<K> {
+        private final NavigableMap<K, ?> m;
+
+        KeySet(NavigableMap<K, ?> m) {
+            this.m = m;
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            return keys(m);
+        }
+
+        @Override
+        public Iterator<K> descendingIterator() {
+            return keys(m.descendingMap());
+        }
+
+        private static <K> Iterator<K> keys(NavigableMap<K, ?> m) {
+            Iterator<? extends Map.Entry<K, ?>> it = m.entrySet().iterator();
+            return new Iterator<K>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public K next() {
+                    return it.next().getKey();
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return m.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return m.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return m.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int oldSize = m.size();
+            m.remove(o);
+            return m.size() != oldSize;
+        }
+
+        @Override
+        public void clear() {
+            m.clear();
+        }
+
+        @Override
+        public Comparator<? super K> comparator() {
+            return m.comparator();
+        }
+
+        @Override
+        public K first() {
+            return m.firstKey();
+        }
+
+        @Override
+        public K last() {
+            return m.lastKey();
+        }
+
+        @Override
+        public K lower(K k) {
+            return m.lowerKey(k);
+        }
+
+        @Override
+        public K floor(K k) {
+            return m.floorKey(k);
+        }
+
+        @Override
+        public K ceiling(K k) {
+            return m.ceilingKey(k);
+        }
+
+        @Override
+        public K higher(K k) {
+            return m.higherKey(k);
+        }
+
+        @Override
+        public K pollFirst() {
+            return keyOrNull(m.pollFirstEntry());
+        }
+
+        @Override
+        public K pollLast() {
+            return keyOrNull(m.pollLastEntry());
+        }
+
+        @Override
+        public NavigableSet<K> descendingSet() {
+            return new KeySet<>(m.descendingMap());
+        }
+
+        @Override
+        public NavigableSet<K> subSet(K fromElement, boolean fromInclusive, K toElement, boolean toInclusive) {
+            return new KeySet<>(m.subMap(fromElement, fromInclusive, toElement, toInclusive));
+        }
+
+        @Override
+        public NavigableSet<K> headSet(K toElement, boolean inclusive) {
+            return new KeySet<>(m.headMap(toElement, inclusive));
+        }
+
+        @Override
+        public NavigableSet<K> tailSet(K fromElement, boolean inclusive) {
+            return new KeySet<>(m.tailMap(fromElement, inclusive));
+        }
+
+        @Override
+        public SortedSet<K> subSet(K fromElement, K toElement) {
+            return subSet(fromElement, true, toElement, false);
+        }
+
+        @Override
+        public SortedSet<K> headSet(K toElement) {
+            return headSet(toElement, false);
+        }
+
+        @Override
+        public SortedSet<K> tailSet(K fromElement) {
+            return tailSet(fromElement, true);
+        }
+    }
+}
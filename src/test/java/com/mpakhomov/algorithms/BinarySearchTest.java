@@ -1,6 +1,13 @@
 package com.mpakhomov.algorithms;
 
 import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
 import static org.junit.Assert.assertThat;
 import static org.hamcrest.Matchers.*;
 
@@ -88,4 +95,168 @@ public class BinarySearchTest {
         assertThat(index, is(-1));
     }
 
+    @Test
+    public void branchlessLowerBound() {
+        int[] a = new int[] {1, 3, 3, 3, 7, 9};
+        assertThat(BinarySearch.branchlessLowerBound(a, 0), is(0));
+        assertThat(BinarySearch.branchlessLowerBound(a, 1), is(0));
+        assertThat(BinarySearch.branchlessLowerBound(a, 2), is(1));
+        assertThat(BinarySearch.branchlessLowerBound(a, 3), is(1));
+        assertThat(BinarySearch.branchlessLowerBound(a, 4), is(4));
+        assertThat(BinarySearch.branchlessLowerBound(a, 9), is(5));
+        assertThat(BinarySearch.branchlessLowerBound(a, 10), is(6));
+        assertThat(BinarySearch.branchlessLowerBound(new int[] {}, 10), is(0));
+    }
+
+    @Test
+    public void branchlessLowerBoundAgainstLinearScan() {
+        Random random = new Random(42);
+        for (int n = 0; n < 70; n++) {
+            int[] a = random.ints(n, 0, 50).sorted().toArray();
+            for (int key = -1; key <= 51; key++) {
+                assertThat(BinarySearch.branchlessLowerBound(a, key), is(linearLowerBound(a, key)));
+            }
+        }
+    }
+
+    @Test
+    public void batchedLowerBounds() {
+        Random random = new Random(42);
+        for (int n : new int[] {0, 1, 2, 100, 100_000}) {
+            int[] a = random.ints(n, -1000, 1000).sorted().toArray();
+            int[] keys = random.ints(1000, -1100, 1100).toArray();
+            int[] result = new int[keys.length];
+            BinarySearch.lowerBounds(a, keys, result);
+            for (int i = 0; i < keys.length; i++) {
+                assertThat(result[i], is(BinarySearch.branchlessLowerBound(a, keys[i])));
+            }
+        }
+    }
+
+    static int linearLowerBound(int[] a, int key) {
+        int i = 0;
+        while (i < a.length && a[i] < key) i++;
+        return i;
+    }
+
+    @Test
+    public void boundsAgainstLinearScan() {
+        Random random = new Random(42);
+        for (int n = 0; n < 40; n++) {
+            int[] a = random.ints(n, 0, 20).sorted().toArray();
+            long[] l = Arrays.stream(a).asLongStream().toArray();
+            double[] d = Arrays.stream(a).asDoubleStream().toArray();
+            Integer[] boxed = Arrays.stream(a).boxed().toArray(Integer[]::new);
+            List<Integer> list = Arrays.asList(boxed);
+            Comparator<Integer> c = Comparator.naturalOrder();
+            for (int key = -1; key <= 21; key++) {
+                int lower = linearLowerBound(a, key);
+                int upper = linearLowerBound(a, key + 1);
+                assertThat(BinarySearch.lowerBound(a, key), is(lower));
+                assertThat(BinarySearch.upperBound(a, key), is(upper));
+                assertThat(BinarySearch.equalRange(a, key), is(new int[] {lower, upper}));
+                assertThat(BinarySearch.lowerBound(l, key), is(lower));
+                assertThat(BinarySearch.upperBound(l, key), is(upper));
+                assertThat(BinarySearch.lowerBound(d, key), is(lower));
+                assertThat(BinarySearch.upperBound(d, key), is(upper));
+                assertThat(BinarySearch.lowerBound(boxed, key, c), is(lower));
+                assertThat(BinarySearch.upperBound(boxed, key, c), is(upper));
+                assertThat(BinarySearch.lowerBound(list, key, c), is(lower));
+                assertThat(BinarySearch.upperBound(list, key, c), is(upper));
+                for (int high = key - 1; high <= key + 3; high++) {
+                    int count = Math.max(0, linearLowerBound(a, high + 1) - lower);
+                    assertThat(BinarySearch.countInRange(a, key, high), is(count));
+                    assertThat(BinarySearch.countInRange(l, key, high), is(count));
+                    assertThat(BinarySearch.countInRange(d, key, high), is(count));
+                    assertThat(BinarySearch.countInRange(boxed, key, high, c), is(count));
+                    assertThat(BinarySearch.countInRange(list, key, high, c), is(count));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void slices() {
+        int[] a = new int[] {9, 9, 1, 3, 3, 5, 0, 0};
+        // a[2..5] = {1, 3, 3, 5} is sorted, the rest of the array isn't
+        assertThat(BinarySearch.lowerBound(a, 2, 6, 3), is(3));
+        assertThat(BinarySearch.upperBound(a, 2, 6, 3), is(5));
+        assertThat(BinarySearch.lowerBound(a, 2, 6, 0), is(2));
+        assertThat(BinarySearch.lowerBound(a, 2, 6, 6), is(6));
+        assertThat(BinarySearch.equalRange(a, 2, 6, 4), is(new int[] {5, 5}));
+        assertThat(BinarySearch.countInRange(a, 2, 6, 2, 5), is(3));
+        assertThat(BinarySearch.countInRange(a, 4, 4, 0, 10), is(0));
+
+        List<String> list = Arrays.asList("z", "a", "b", "b", "c", "a");
+        assertThat(BinarySearch.equalRange(list, 1, 5, "b", String::compareTo), is(new int[] {2, 4}));
+        assertThat(BinarySearch.countInRange(list, 1, 5, "a", "b", String::compareTo), is(3));
+    }
+
+    @Test
+    public void doublesUseTheOrderOfArraysSort() {
+        double[] a = new double[] {Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.0, Double.NaN, Double.NaN};
+        assertThat(BinarySearch.lowerBound(a, 0.0), is(2));
+        assertThat(BinarySearch.upperBound(a, -0.0), is(2));
+        assertThat(BinarySearch.equalRange(a, Double.NaN), is(new int[] {4, 6}));
+        assertThat(BinarySearch.countInRange(a, -0.0, 0.0), is(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sliceFromGreaterThanTo() {
+        BinarySearch.lowerBound(new long[] {1, 2, 3}, 2, 1, 2L);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void sliceOutOfArray() {
+        BinarySearch.countInRange(new int[] {1, 2, 3}, 0, 4, 1, 2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void sliceOutOfList() {
+        BinarySearch.upperBound(Arrays.asList(1, 2, 3), -1, 2, 2, Comparator.naturalOrder());
+    }
+
+    @Test
+    public void interpolationSearch() {
+        Random random = new Random(42);
+        // uniform, exponential and duplicate-heavy distributions
+        int[][] arrays = new int[][] {
+                random.ints(10_000, Integer.MIN_VALUE, Integer.MAX_VALUE).sorted().toArray(),
+                IntStream.range(0, 31).map(i -> 1 << i).toArray(),
+                random.ints(10_000, 0, 10).sorted().toArray(),
+                new int[] {}, new int[] {7}
+        };
+        for (int[] a : arrays) {
+            for (int i = 0; i < a.length; i++) {
+                int index = BinarySearch.interpolationSearch(a, a[i]);
+                assertThat(a[index], is(a[i]));
+            }
+            for (int i = 0; i < 1000; i++) {
+                int key = random.nextInt();
+                int index = BinarySearch.interpolationSearch(a, key);
+                if (Arrays.binarySearch(a, key) < 0) {
+                    assertThat(index, is(-1));
+                } else {
+                    assertThat(a[index], is(key));
+                }
+            }
+            assertThat(BinarySearch.interpolationSearch(a, Integer.MIN_VALUE) == -1 || a[0] == Integer.MIN_VALUE,
+                    is(true));
+        }
+    }
+
+    @Test
+    public void exponentialSearchFromHint() {
+        Random random = new Random(42);
+        int[] a = random.ints(5_000, 0, 3_000).sorted().toArray();
+        for (int i = 0; i < 5_000; i++) {
+            int key = random.nextInt(3_100) - 50;
+            int hint = random.nextInt(a.length + 20) - 10;
+            int expected = BinarySearch.lowerBound(a, key);
+            assertThat(BinarySearch.exponentialLowerBound(a, hint, key), is(expected));
+            assertThat(BinarySearch.exponentialSearch(a, hint, key),
+                    is(expected < a.length && a[expected] == key ? expected : -1));
+        }
+        assertThat(BinarySearch.exponentialLowerBound(new int[] {}, 3, 1), is(0));
+    }
 }
@@ -0,0 +1,56 @@
+package com.mpakhomov.algorithms;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link BinarySearchTest}
+ */
+public class EytzingerIndexTest {
+
+    @Test
+    public void testLowerBoundAgainstLinearScan() {
+        Random random = new Random(42);
+        for (int n = 0; n < 70; n++) {
+            int[] a = random.ints(n, 0, 50).sorted().toArray();
+            EytzingerIndex index = new EytzingerIndex(a);
+            assertThat(index.size(), is(n));
+            for (int key = -1; key <= 51; key++) {
+                int expected = BinarySearchTest.linearLowerBound(a, key);
+                assertThat(index.lowerBound(key), is(expected));
+                assertThat(index.indexOf(key), is(expected < n && a[expected] == key ? expected : -1));
+            }
+        }
+    }
+
+    @Test
+    public void testBatchedLowerBounds() {
+        Random random = new Random(42);
+        for (int n : new int[] {0, 1, 2, 3, 100, 100_000}) {
+            int[] a = random.ints(n, -1000, 1000).sorted().toArray();
+            EytzingerIndex index = new EytzingerIndex(a);
+            int[] keys = random.ints(1000, -1100, 1100).toArray();
+            int[] result = new int[keys.length];
+            index.lowerBounds(keys, result);
+            for (int i = 0; i < keys.length; i++) {
+                assertThat(result[i], is(BinarySearch.branchlessLowerBound(a, keys[i])));
+            }
+        }
+    }
+
+    @Test
+    public void testExtremeKeys() {
+        int[] a = new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE};
+        EytzingerIndex index = new EytzingerIndex(a);
+        assertThat(index.lowerBound(Integer.MIN_VALUE), is(0));
+        assertThat(index.lowerBound(1), is(2));
+        assertThat(index.lowerBound(Integer.MAX_VALUE), is(2));
+        assertThat(index.indexOf(Integer.MAX_VALUE), is(2));
+    }
+}
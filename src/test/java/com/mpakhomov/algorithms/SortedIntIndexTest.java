@@ -0,0 +1,109 @@
+package com.mpakhomov.algorithms;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link BinarySearchTest}
+ */
+public class SortedIntIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static void assertSameAsBinarySearch(int[] a, SortedIntIndex index, int[] keys) {
+        assertThat(index.size(), is(a.length));
+        for (int key : keys) {
+            int expected = BinarySearch.lowerBound(a, key);
+            assertThat(index.lowerBound(key), is(expected));
+            assertThat(index.rank(key), is(expected));
+            assertThat(index.contains(key), is(expected < a.length && a[expected] == key));
+        }
+    }
+
+    @Test
+    public void testAllSizesUpToThreeLayers() {
+        // 1 layer up to 16 keys, 2 layers up to 16 * 17, 3 layers above that
+        Random random = new Random(42);
+        for (int n = 0; n < 600; n++) {
+            int[] a = random.ints(n, 0, 1000).sorted().toArray();
+            SortedIntIndex index = SortedIntIndex.build(a);
+            int[] keys = random.ints(200, -10, 1010).toArray();
+            assertSameAsBinarySearch(a, index, keys);
+            for (int i = 0; i < n; i++) {
+                assertThat(index.get(i), is(a[i]));
+                assertThat(index.contains(a[i]), is(true));
+            }
+        }
+    }
+
+    @Test
+    public void testParallelBuildOfLargeArray() {
+        Random random = new Random(42);
+        int[] a = random.ints(1_000_000).sorted().toArray();
+        SortedIntIndex index = SortedIntIndex.parallelBuild(a);
+        int[] keys = random.ints(10_000).toArray();
+        assertSameAsBinarySearch(a, index, keys);
+        for (int i = 0; i < a.length; i += 997) {
+            assertThat(index.lowerBound(a[i]), is(BinarySearch.lowerBound(a, a[i])));
+        }
+    }
+
+    @Test
+    public void testExtremeValues() {
+        int[] a = new int[] {Integer.MIN_VALUE, Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE, Integer.MAX_VALUE};
+        SortedIntIndex index = SortedIntIndex.build(a);
+        assertSameAsBinarySearch(a, index, new int[] {Integer.MIN_VALUE, -2, -1, 0, 1, Integer.MAX_VALUE - 1,
+                Integer.MAX_VALUE});
+    }
+
+    @Test
+    public void testWriteAndMap() throws IOException {
+        Random random = new Random(42);
+        int[] a = random.ints(100_000, -50_000, 50_000).sorted().toArray();
+        Path file = folder.newFile("index.bin").toPath();
+        SortedIntIndex.build(a).writeTo(file);
+
+        SortedIntIndex mapped = SortedIntIndex.map(file);
+        assertSameAsBinarySearch(a, mapped, random.ints(10_000, -60_000, 60_000).toArray());
+        assertThat(mapped.get(a.length - 1), is(a[a.length - 1]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMapTruncatedFile() throws IOException {
+        Path file = folder.newFile("index.bin").toPath();
+        SortedIntIndex.build(new int[] {1, 2, 3}).writeTo(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+        SortedIntIndex.map(file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMapLongIndex() throws IOException {
+        Path file = folder.newFile("index.bin").toPath();
+        SortedLongIndex.build(new long[] {1, 2, 3}).writeTo(file);
+        SortedIntIndex.map(file);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsorted() {
+        SortedIntIndex.parallelBuild(new int[] {1, 3, 2});
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        SortedIntIndex.build(new int[] {1, 2, 3}).get(3);
+    }
+}
@@ -0,0 +1,55 @@
+package com.mpakhomov.algorithms;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortedIntIndexTest}
+ */
+public class SortedLongIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static void assertSameAsBinarySearch(long[] a, SortedLongIndex index, long[] keys) {
+        assertThat(index.size(), is(a.length));
+        for (long key : keys) {
+            int expected = BinarySearch.lowerBound(a, key);
+            assertThat(index.lowerBound(key), is(expected));
+            assertThat(index.contains(key), is(expected < a.length && a[expected] == key));
+        }
+    }
+
+    @Test
+    public void testAllSizesUpToFourLayers() {
+        Random random = new Random(42);
+        for (int n = 0; n < 800; n++) {
+            long[] a = random.longs(n, 0, 1000).sorted().toArray();
+            assertSameAsBinarySearch(a, SortedLongIndex.build(a), random.longs(100, -10, 1010).toArray());
+        }
+    }
+
+    @Test
+    public void testParallelBuildWriteAndMap() throws IOException {
+        Random random = new Random(42);
+        long[] a = random.longs(300_000).sorted().toArray();
+        Path file = folder.newFile("index.bin").toPath();
+        SortedLongIndex.parallelBuild(a).writeTo(file);
+
+        SortedLongIndex mapped = SortedLongIndex.map(file);
+        long[] keys = random.longs(10_000).toArray();
+        assertSameAsBinarySearch(a, mapped, keys);
+        assertSameAsBinarySearch(a, mapped, new long[] {Long.MIN_VALUE, a[0], a[a.length - 1], Long.MAX_VALUE});
+        assertThat(mapped.get(12_345), is(a[12_345]));
+    }
+}
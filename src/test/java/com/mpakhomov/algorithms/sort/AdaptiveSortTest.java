@@ -0,0 +1,100 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class AdaptiveSortTest {
+
+    private final List<AdaptiveSort.Decision> decisions = new ArrayList<>();
+    private final AdaptiveSort sorter = new AdaptiveSort(decisions::add);
+
+    @Test
+    public void testTiny() {
+        assertEngine(new int[] {3, 1, 2}, AdaptiveSort.Engine.INSERTION_SORT);
+    }
+
+    @Test
+    public void testAlreadySorted() {
+        int[] a = new int[1000];
+        for (int i = 0; i < a.length; i++) a[i] = i * 1000;
+        assertEngine(a, AdaptiveSort.Engine.ALREADY_SORTED);
+        assertThat(decisions.get(0).getRuns(), is(1));
+    }
+
+    @Test
+    public void testNarrowRange() {
+        assertEngine(TestUtil.generateRandomIntArray(10_000, -500, 500), AdaptiveSort.Engine.COUNTING_SORT);
+        assertThat(decisions.get(0).getMin() >= -500, is(true));
+        assertThat(decisions.get(0).getMax() < 500, is(true));
+    }
+
+    @Test
+    public void testNearlySorted() {
+        int[] a = new int[10_000];
+        for (int i = 0; i < a.length; i++) a[i] = i * 1000;
+        // a few swaps break the order in a few places only
+        Random random = new Random(42);
+        for (int k = 0; k < 10; k++) {
+            int i = random.nextInt(a.length);
+            int j = random.nextInt(a.length);
+            int tmp = a[i];
+            a[i] = a[j];
+            a[j] = tmp;
+        }
+        assertEngine(a, AdaptiveSort.Engine.TIM_SORT);
+
+        int[] reversed = new int[10_000];
+        for (int i = 0; i < reversed.length; i++) reversed[i] = -i * 1000;
+        assertEngine(reversed, AdaptiveSort.Engine.TIM_SORT);
+    }
+
+    @Test
+    public void testRandom() {
+        assertEngine(TestUtil.generateRandomIntArray(100_000, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                AdaptiveSort.Engine.RADIX_SORT);
+        assertEngine(TestUtil.generateRandomIntArray(100, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                AdaptiveSort.Engine.QUICK_SORT);
+    }
+
+    @Test
+    public void testFewDistinctValuesFromWideRange() {
+        int[] values = new int[] {Integer.MIN_VALUE, -7, 123_456_789, Integer.MAX_VALUE};
+        int[] a = new int[100_000];
+        Random random = new Random(42);
+        for (int i = 0; i < a.length; i++) a[i] = values[random.nextInt(values.length)];
+        assertEngine(a, AdaptiveSort.Engine.QUICK_SORT);
+        assertThat(decisions.get(0).getDistinctInSample(), is(4));
+    }
+
+    @Test
+    public void testDecideDoesNotModify() {
+        int[] a = TestUtil.generateRandomIntArray(1000, 0, Integer.MAX_VALUE);
+        int[] copy = a.clone();
+        sorter.decide(a);
+        assertArrayEquals(copy, a);
+    }
+
+    private void assertEngine(int[] a, AdaptiveSort.Engine engine) {
+        decisions.clear();
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        sorter.sort(a);
+        assertArrayEquals(expected, a);
+        assertThat(decisions.size(), is(1));
+        assertThat(decisions.get(0).toString(), decisions.get(0).getEngine(), is(engine));
+    }
+}
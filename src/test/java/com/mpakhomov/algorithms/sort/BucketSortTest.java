@@ -0,0 +1,108 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class BucketSortTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final DoubleSorting[] sorters = new DoubleSorting[] {new BucketSort(), new BucketSort(pool)};
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private void assertSorts(double[] a) {
+        double[] expected = a.clone();
+        Arrays.sort(expected);
+        for (DoubleSorting sorter : sorters) {
+            double[] actual = a.clone();
+            sorter.instanceSort(actual);
+            assertArrayEquals(expected, actual, 0.0);
+        }
+    }
+
+    @Test
+    public void testUniform() {
+        Random random = new Random(42);
+        for (int n : new int[] {0, 1, 2, 10, 1000, 1_000_000}) {
+            double[] a = new double[n];
+            for (int i = 0; i < n; i++) a[i] = random.nextDouble() * 2000 - 1000;
+            assertSorts(a);
+        }
+    }
+
+    @Test
+    public void testManyWorkers() {
+        // 16 chunks of histograms: the buckets get coarser, n / 16 of them
+        ForkJoinPool wide = new ForkJoinPool(16);
+        try {
+            Random random = new Random(42);
+            double[] a = new double[16 * BucketSort.SEQUENTIAL_THRESHOLD];
+            for (int i = 0; i < a.length; i++) a[i] = random.nextDouble();
+            double[] expected = a.clone();
+            Arrays.sort(expected);
+            new BucketSort(wide).sort(a);
+            assertArrayEquals(expected, a, 0.0);
+        } finally {
+            wide.shutdown();
+        }
+    }
+
+    @Test
+    public void testSkewed() {
+        // most of the elements fall into the first bucket, it's sorted by radix sort
+        Random random = new Random(42);
+        double[] a = new double[1_000_000];
+        for (int i = 0; i < a.length; i++) a[i] = Math.pow(random.nextDouble(), 50);
+        assertSorts(a);
+    }
+
+    @Test
+    public void testDuplicates() {
+        Random random = new Random(42);
+        double[] a = new double[300_000];
+        for (int i = 0; i < a.length; i++) a[i] = random.nextInt(5) * 0.5;
+        assertSorts(a);
+    }
+
+    @Test
+    public void testSpecialValues() {
+        Random random = new Random(42);
+        double[] specials = new double[] {Double.NaN, -0.0, 0.0, Double.MIN_VALUE, -Double.MIN_VALUE};
+        double[] a = new double[200_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt(4) == 0 ? specials[random.nextInt(specials.length)] : random.nextGaussian();
+        }
+        assertSorts(a);
+
+        // -0.0 and 0.0 are equal for assertArrayEquals, so check the signs explicitly
+        double[] zeros = new double[] {0.0, -0.0, 1.0, 0.0, -0.0, -1.0, Double.NaN};
+        new BucketSort().sort(zeros);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(zeros[1]));
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(zeros[2]));
+        assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(zeros[3]));
+        assertEquals(Double.doubleToRawLongBits(0.0), Double.doubleToRawLongBits(zeros[4]));
+        assertArrayEquals(new double[] {-1.0, -0.0, -0.0, 0.0, 0.0, 1.0, Double.NaN}, zeros, 0.0);
+    }
+
+    @Test
+    public void testInfiniteRange() {
+        double[] a = new double[] {Double.POSITIVE_INFINITY, 1.0, -Double.MAX_VALUE, Double.MAX_VALUE,
+                Double.NEGATIVE_INFINITY, -1.0};
+        assertSorts(a);
+    }
+}
@@ -0,0 +1,69 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class CountingSortTest {
+
+    @Test
+    public void testDetectedRange() {
+        int[] a = TestUtil.generateRandomIntArray(100_000, -1000, 1000);
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        CountingSort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testKnownRange() {
+        int[] a = new int[] {200, 404, 500, 200, 301, 404};
+        CountingSort.sort(a, 200, 599);
+        assertArrayEquals(new int[] {200, 200, 301, 404, 404, 500}, a);
+    }
+
+    @Test
+    public void testWideRangeFallsBackToRadixSort() {
+        int[] a = new int[] {Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1};
+        CountingSort.sort(a);
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void testRangeWiderThanArrayFallsBackToRadixSort() {
+        // 60M counters for 3 elements would take 240 MB
+        assertFalse(CountingSort.isNarrow(0, 60_000_000, 3));
+        assertTrue(CountingSort.isNarrow(0, 11, 3));
+
+        int[] a = new int[] {60_000_000, 0, 5};
+        CountingSort.sort(a);
+        assertArrayEquals(new int[] {0, 5, 60_000_000}, a);
+
+        // and the workspace doesn't grow to the range
+        SortWorkspace workspace = new SortWorkspace();
+        a = new int[] {60_000_000, 0, 5};
+        CountingSort.sort(a, workspace);
+        assertArrayEquals(new int[] {0, 5, 60_000_000}, a);
+        assertTrue(workspace.ints(0, 0).length < 1000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueOutOfKnownRange() {
+        CountingSort.sort(new int[] {1, 2, 3}, 1, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKnownRangeTooWide() {
+        CountingSort.sort(new int[] {1, 2, 3}, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+}
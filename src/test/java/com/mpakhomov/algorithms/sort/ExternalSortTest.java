@@ -0,0 +1,95 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class ExternalSortTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSeveralMergePasses() throws IOException {
+        // 100 runs, fan-in 3: five merge passes
+        Path temp = folder.newFolder("runs").toPath();
+        ExternalSort sorter = new ExternalSort(1000, 3, 64, temp, new MergeSort(true));
+        int[] a = TestUtil.generateRandomIntArray(99_999, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertSorts(sorter, a);
+        // all the temporary runs are deleted
+        assertThat(temp.toFile().list().length, is(0));
+    }
+
+    @Test
+    public void testSingleRun() throws IOException {
+        ExternalSort sorter = new ExternalSort(1000, 2, folder.getRoot().toPath());
+        assertSorts(sorter, TestUtil.generateRandomIntArray(1000, -100, 100));
+        assertSorts(sorter, new int[] {42});
+        assertSorts(sorter, new int[0]);
+    }
+
+    @Test
+    public void testDefaultSettings() throws IOException {
+        assertSorts(new ExternalSort(), TestUtil.generateRandomIntArray(10_000, -100, 100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTruncatedFile() throws IOException {
+        Path input = folder.newFile().toPath();
+        Files.write(input, new byte[] {1, 2, 3, 4, 5});
+        new ExternalSort().sort(input, folder.newFile().toPath());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFanIn() {
+        new ExternalSort(1000, 1, folder.getRoot().toPath());
+    }
+
+    private void assertSorts(ExternalSort sorter, int[] a) throws IOException {
+        Path input = folder.newFile().toPath();
+        Path output = folder.newFile().toPath();
+        write(input, a);
+        sorter.sort(input, output);
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, read(output));
+        // the input is untouched
+        assertArrayEquals(a, read(input));
+    }
+
+    private static void write(Path file, int[] a) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            for (int v : a) {
+                out.writeInt(v);
+            }
+        }
+    }
+
+    private static int[] read(Path file) throws IOException {
+        int[] a = new int[(int) (Files.size(file) / Integer.BYTES)];
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            for (int i = 0; i < a.length; i++) {
+                a[i] = in.readInt();
+            }
+        }
+        return a;
+    }
+}
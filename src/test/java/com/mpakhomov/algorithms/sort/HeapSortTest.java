@@ -0,0 +1,54 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class HeapSortTest {
+
+    @Test
+    public void testArities() {
+        for (int d : new int[] {2, 3, 4, 8, 16}) {
+            int[] a = TestUtil.generateRandomIntArray(100_001, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            HeapSort.sort(a, d);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    public void testDuplicates() {
+        int[] a = TestUtil.generateRandomIntArray(10_000, 0, 3);
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        new HeapSort().instanceSort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testSmallArrays() {
+        for (int d : new int[] {2, 3, 16}) {
+            for (int n = 0; n <= 20; n++) {
+                int[] a = TestUtil.generateRandomIntArray(n, -5, 5);
+                int[] expected = a.clone();
+                Arrays.sort(expected);
+                HeapSort.sort(a, d);
+                assertArrayEquals(expected, a);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidArity() {
+        new HeapSort(1);
+    }
+}
@@ -27,4 +27,27 @@ public class InsertionSortTest {
         InsertionSort.sortWithArrayCopy(sorted);
         assertThat(Sequence.isSorted(sorted), is(true));
     }
+
+    @Test
+    public void testBinarySort() {
+        int[] a = new int[] {3, 7, 2, 5};
+        InsertionSort.binarySort(a, 0, a.length - 1);
+        assertThat(Sequence.isSorted(a), is(true));
+
+        int[] random = TestUtil.generateRandomIntArray(100, 0, 10);
+        InsertionSort.binarySort(random, 0, random.length - 1);
+        assertThat(Sequence.isSorted(random), is(true));
+
+        // only the middle part is sorted
+        int[] range = new int[] {9, 8, 4, 3, 2, 1, 0};
+        InsertionSort.binarySort(range, 2, 5);
+        assertThat(range, is(new int[] {9, 8, 1, 2, 3, 4, 0}));
+    }
+
+    @Test
+    public void testComparatorRange() {
+        String[] a = new String[] {"z", "d", "b", "c", "a", "b", "y"};
+        InsertionSort.sort(a, 1, 6, String.CASE_INSENSITIVE_ORDER);
+        assertThat(a, is(new String[] {"z", "a", "b", "b", "c", "d", "y"}));
+    }
 }
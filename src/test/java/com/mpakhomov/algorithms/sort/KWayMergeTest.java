@@ -0,0 +1,112 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class KWayMergeTest {
+
+    private final Random random = new Random();
+
+    @Test
+    public void testIntArrays() {
+        // non powers of two exercise the shape of the loser tree, empty arrays exhausted sources
+        for (int k = 1; k <= 20; k++) {
+            int[][] arrays = new int[k][];
+            for (int s = 0; s < k; s++) {
+                arrays[s] = TestUtil.generateRandomIntArray(random.nextInt(100), -50, 50);
+                Arrays.sort(arrays[s]);
+            }
+            arrays[k / 2] = new int[0];
+            assertArrayEquals(concatAndSort(arrays), KWayMerge.merge(arrays));
+        }
+    }
+
+    @Test
+    public void testIntExtremeValues() {
+        int[][] arrays = new int[][] {{Integer.MIN_VALUE, Integer.MAX_VALUE}, {Integer.MAX_VALUE}, {0, Integer.MAX_VALUE}};
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE},
+                KWayMerge.merge(arrays));
+        assertThat(KWayMerge.merge(new int[0][]).length, is(0));
+    }
+
+    @Test
+    public void testLongArrays() {
+        long[][] arrays = new long[7][];
+        List<Long> expected = new ArrayList<>();
+        for (int s = 0; s < arrays.length; s++) {
+            arrays[s] = random.longs(random.nextInt(1000)).sorted().toArray();
+            for (long v : arrays[s]) expected.add(v);
+        }
+        Collections.sort(expected);
+        long[] merged = KWayMerge.merge(arrays);
+        assertThat(merged.length, is(expected.size()));
+        for (int i = 0; i < merged.length; i++) {
+            assertThat(merged[i], is(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void testStreamingSink() {
+        int[][] arrays = new int[][] {{1, 4, 7}, {2, 5, 8}, {3, 6, 9}};
+        StringBuilder sb = new StringBuilder();
+        KWayMerge.merge(arrays, sb::append);
+        assertThat(sb.toString(), is("123456789"));
+    }
+
+    @Test
+    public void testIterators() {
+        List<Iterator<String>> iterators = Arrays.asList(
+                Arrays.asList("a", "d", "g").iterator(),
+                Collections.<String>emptyIterator(),
+                Arrays.asList("b", "c", "h", "i").iterator(),
+                Arrays.asList("e", "f").iterator());
+        List<String> merged = new ArrayList<>();
+        KWayMerge.merge(iterators).forEachRemaining(merged::add);
+        assertThat(merged, is(Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i")));
+    }
+
+    @Test
+    public void testIteratorsAreStable() {
+        // {key, source}: equal keys must come in the order of their sources
+        List<Iterator<int[]>> iterators = new ArrayList<>();
+        for (int s = 0; s < 5; s++) {
+            List<int[]> shard = new ArrayList<>();
+            for (int key = 0; key < 10; key++) shard.add(new int[] {key, s});
+            iterators.add(shard.iterator());
+        }
+        Iterator<int[]> merged = KWayMerge.merge(iterators, Comparator.comparingInt((int[] p) -> p[0]));
+        for (int key = 0; key < 10; key++) {
+            for (int s = 0; s < 5; s++) {
+                assertArrayEquals(new int[] {key, s}, merged.next());
+            }
+        }
+        assertThat(merged.hasNext(), is(false));
+    }
+
+    private static int[] concatAndSort(int[][] arrays) {
+        int[] all = new int[0];
+        for (int[] a : arrays) {
+            int[] tmp = Arrays.copyOf(all, all.length + a.length);
+            System.arraycopy(a, 0, tmp, all.length, a.length);
+            all = tmp;
+        }
+        Arrays.sort(all);
+        return all;
+    }
+}
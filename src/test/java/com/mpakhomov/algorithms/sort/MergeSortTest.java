@@ -1,8 +1,109 @@
 package com.mpakhomov.algorithms.sort;
 
+import com.mpakhomov.TestUtil;
+import com.mpakhomov.seq.Sequence;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
 /**
  * @see {@link SortingTests}
  */
 public class MergeSortTest {
 
+    @Test
+    public void testSortOptimizedRandom() {
+        int[] a = TestUtil.generateRandomIntArray(100_000, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        MergeSort.sortOptimized(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testSortOptimizedAroundCutoff() {
+        for (int n = 0; n <= 4 * MergeSort.CUTOFF; n++) {
+            int[] a = TestUtil.generateRandomIntArray(n, 0, 10);
+            MergeSort.sortOptimized(a);
+            assertThat(Sequence.isSorted(a), is(true));
+        }
+    }
+
+    @Test
+    public void testSortOptimizedSortedAndReversed() {
+        int[] sorted = new int[1000];
+        int[] reversed = new int[1000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reversed[i] = sorted.length - i;
+        }
+        MergeSort.sortOptimized(sorted);
+        MergeSort.sortOptimized(reversed);
+        assertThat(Sequence.isSorted(sorted), is(true));
+        assertThat(Sequence.isSorted(reversed), is(true));
+    }
+
+    @Test
+    public void testRange() {
+        int[] a = TestUtil.generateRandomIntArray(1000, -1000, 1000);
+        int[] expected = a.clone();
+        Arrays.sort(expected, 123, 877);
+        MergeSort.sort(a, 123, 877);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testInstanceSortRange() {
+        for (boolean optimized : new boolean[] {false, true}) {
+            int[] a = TestUtil.generateRandomIntArray(1000, -1000, 1000);
+            int[] expected = a.clone();
+            Arrays.sort(expected, 123, 877);
+            new MergeSort(optimized).instanceSort(a, 123, 877);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    public void testComparatorIsStable() {
+        // pairs {key, original position}: sort by key only, positions must stay in ascending order within a key
+        Integer[][] a = new Integer[1000][];
+        int[] keys = TestUtil.generateRandomIntArray(a.length, 0, 10);
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new Integer[] {keys[i], i};
+        }
+        Integer[][] expected = a.clone();
+        Arrays.sort(expected, Comparator.comparing((Integer[] p) -> p[0]));
+        MergeSort.sort(a, Comparator.comparing((Integer[] p) -> p[0]));
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testComparatorRange() {
+        String[] a = new String[] {"z", "y", "d", "c", "b", "a", "x"};
+        MergeSort.sort(a, 2, 6, Comparator.<String>naturalOrder());
+        assertArrayEquals(new String[] {"z", "y", "a", "b", "c", "d", "x"}, a);
+    }
+
+    @Test
+    public void testList() {
+        int[] values = TestUtil.generateRandomIntArray(500, 0, 1000);
+        List<Integer> arrayList = new ArrayList<>();
+        for (int v : values) arrayList.add(v);
+        List<Integer> linkedList = new LinkedList<>(arrayList);
+        List<Integer> expected = new ArrayList<>(arrayList);
+        expected.sort(Comparator.reverseOrder());
+
+        MergeSort.sort(arrayList, Comparator.reverseOrder());
+        MergeSort.sort(linkedList, Comparator.reverseOrder());
+        assertThat(arrayList, is(expected));
+        assertThat(linkedList, is(expected));
+    }
 }
@@ -0,0 +1,83 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class ParallelCountingSortTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ParallelCountingSort sorter = new ParallelCountingSort(pool);
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testDetectedRange() {
+        for (int high : new int[] {2, 256, 100_000}) {
+            int[] a = TestUtil.generateRandomIntArray(1_000_000, -100, high);
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            sorter.sort(a);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    public void testKnownRange() {
+        int[] a = TestUtil.generateRandomIntArray(1_000_000, 100, 600);
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        sorter.sort(a, 100, 599);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testSkewedValues() {
+        // almost all the elements are the same value, the output slices can't be balanced
+        int[] a = new int[1_000_000];
+        Arrays.fill(a, 7);
+        a[123] = 0;
+        a[456_789] = 255;
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        sorter.sort(a, 0, 255);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testWideRangeFallsBackToRadixSort() {
+        int[] a = TestUtil.generateRandomIntArray(1_000_000, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        sorter.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testRangeWiderThanArrayFallsBackToRadixSort() {
+        // a single chunk would count 60M values for 3 elements
+        int[] a = new int[] {60_000_000, 0, 5};
+        sorter.sort(a);
+        assertArrayEquals(new int[] {0, 5, 60_000_000}, a);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testValueOutOfKnownRange() {
+        int[] a = TestUtil.generateRandomIntArray(1_000_000, 0, 100);
+        a[999_999] = 100;
+        sorter.sort(a, 0, 99);
+    }
+}
@@ -0,0 +1,49 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class ParallelMergeSortTest {
+
+    @Test
+    public void testSortOneMillionWithParallelMerge() {
+        int[] a = TestUtil.generateRandomIntArray(1_000_000, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        new ParallelMergeSort().sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testSmallThresholdCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (boolean parallelMerge : new boolean[] {true, false}) {
+                ParallelMergeSort sorter = new ParallelMergeSort(pool, 4, parallelMerge);
+                // lots of duplicates to exercise lower and upper bound splits
+                int[] a = TestUtil.generateRandomIntArray(10_000, 0, 50);
+                int[] expected = a.clone();
+                Arrays.sort(expected);
+                sorter.sort(a);
+                assertArrayEquals(expected, a);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        new ParallelMergeSort(ForkJoinPool.commonPool(), 0, true);
+    }
+}
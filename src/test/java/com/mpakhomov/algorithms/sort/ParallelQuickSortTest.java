@@ -0,0 +1,48 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class ParallelQuickSortTest {
+
+    @Test
+    public void testSortOneMillion() {
+        int[] a = TestUtil.generateRandomIntArray(1_000_000, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        new ParallelQuickSort().sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testSmallThresholdCustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelQuickSort sorter = new ParallelQuickSort(pool, 1);
+            for (int high : new int[] {2, 50, Integer.MAX_VALUE}) {
+                int[] a = TestUtil.generateRandomIntArray(10_000, 0, high);
+                int[] expected = a.clone();
+                Arrays.sort(expected);
+                sorter.sort(a);
+                assertArrayEquals(expected, a);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        new ParallelQuickSort(ForkJoinPool.commonPool(), 0);
+    }
+}
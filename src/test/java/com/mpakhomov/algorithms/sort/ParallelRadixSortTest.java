@@ -0,0 +1,69 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class ParallelRadixSortTest {
+
+    private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testNegativeNumbers() {
+        int[] a = new int[] {10000000, -12, 0, 14, Integer.MIN_VALUE, -77, 42, Integer.MAX_VALUE, -1, 1};
+        for (ParallelRadixSort.Mode mode : ParallelRadixSort.Mode.values()) {
+            assertSortedLikeJdk(new ParallelRadixSort(pool, mode), a.clone());
+        }
+    }
+
+    @Test
+    public void testOneMillionRandom() {
+        int[] a = TestUtil.generateRandomIntArray(1_000_000, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        for (ParallelRadixSort.Mode mode : ParallelRadixSort.Mode.values()) {
+            assertSortedLikeJdk(new ParallelRadixSort(pool, mode), a.clone());
+        }
+    }
+
+    @Test
+    public void testOneMillionSmallNonNegative() {
+        // all the keys share the upper bytes, MSD has to go down to the last byte
+        int[] a = TestUtil.generateRandomIntArray(1_000_000, 0, 1000);
+        for (ParallelRadixSort.Mode mode : ParallelRadixSort.Mode.values()) {
+            assertSortedLikeJdk(new ParallelRadixSort(pool, mode), a.clone());
+        }
+    }
+
+    @Test
+    public void testSizesAroundCutoffs() {
+        int[] sizes = new int[] {0, 1, 2, ParallelRadixSort.INSERTION_CUTOFF + 1, ParallelRadixSort.CACHE_CUTOFF + 1,
+                ParallelRadixSort.SEQUENTIAL_THRESHOLD + 1};
+        for (int n : sizes) {
+            int[] a = TestUtil.generateRandomIntArray(n, -1000, 1000);
+            for (ParallelRadixSort.Mode mode : ParallelRadixSort.Mode.values()) {
+                assertSortedLikeJdk(new ParallelRadixSort(pool, mode), a.clone());
+            }
+        }
+    }
+
+    private static void assertSortedLikeJdk(ParallelRadixSort sorter, int[] a) {
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        sorter.sort(a);
+        assertArrayEquals(expected, a);
+    }
+}
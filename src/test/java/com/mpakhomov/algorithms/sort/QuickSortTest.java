@@ -0,0 +1,77 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class QuickSortTest {
+
+    @Test
+    public void testRandom() {
+        for (int size : new int[] {0, 1, 31, 32, 33, 100, 1000, 100_000}) {
+            int[] a = TestUtil.generateRandomIntArray(size, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            assertSorts(a);
+        }
+    }
+
+    @Test
+    public void testDuplicates() {
+        // two distinct values: the pivots are different, equal elements have to be squeezed out of the middle
+        assertSorts(TestUtil.generateRandomIntArray(100_000, 0, 2));
+        assertSorts(TestUtil.generateRandomIntArray(100_000, 0, 10));
+        assertSorts(new int[100_000]);
+    }
+
+    @Test
+    public void testPatterns() {
+        int n = 100_000;
+        int[] sorted = new int[n];
+        int[] reversed = new int[n];
+        int[] organPipe = new int[n];
+        int[] sawtooth = new int[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = i;
+            reversed[i] = n - i;
+            organPipe[i] = i < n / 2 ? i : n - i;
+            sawtooth[i] = i % 1000;
+        }
+        assertSorts(sorted);
+        assertSorts(reversed);
+        assertSorts(organPipe);
+        assertSorts(sawtooth);
+    }
+
+    @Test
+    public void testHeapSortFallback() {
+        // zero depth: the whole range goes to heap sort
+        int[] a = TestUtil.generateRandomIntArray(10_000, -1000, 1000);
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        QuickSort.sort(a, 0, a.length - 1, 0, new int[4]);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testRange() {
+        int[] a = TestUtil.generateRandomIntArray(10_000, -1000, 1000);
+        int[] expected = a.clone();
+        Arrays.sort(expected, 1234, 8765);
+        QuickSort.sort(a, 1234, 8765);
+        assertArrayEquals(expected, a);
+    }
+
+    private static void assertSorts(int[] a) {
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        QuickSort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+}
@@ -0,0 +1,197 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class RadixSortTest {
+
+    private final Random random = new Random();
+
+    @Test
+    public void testIntNegativeNumbers() {
+        int[] a = new int[] {10000000, -12, 0, 14, Integer.MIN_VALUE, -77, 42, Integer.MAX_VALUE, -1, 1};
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        RadixSort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testIntRandom() {
+        for (int[] a : new int[][] {
+                TestUtil.generateRandomIntArray(100_000, Integer.MIN_VALUE, Integer.MAX_VALUE),
+                // the upper bytes are the same, those passes are skipped
+                TestUtil.generateRandomIntArray(100_000, 0, 1000),
+                // all the bytes are the same, nothing to do
+                new int[] {7, 7, 7, 7}}) {
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            RadixSort.sort(a);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    public void testLong() {
+        long[] a = random.longs(100_000).toArray();
+        a[0] = Long.MIN_VALUE;
+        a[1] = Long.MAX_VALUE;
+        a[2] = 0;
+        long[] expected = a.clone();
+        Arrays.sort(expected);
+        RadixSort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void testFloat() {
+        float[] a = new float[100_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (float) random.nextGaussian() * 1000;
+        }
+        float[] special = new float[] {Float.NaN, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, -0.0f, 0.0f,
+                Float.MIN_VALUE, -Float.MIN_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE};
+        System.arraycopy(special, 0, a, 0, special.length);
+        float[] expected = a.clone();
+        Arrays.sort(expected);
+        RadixSort.sort(a);
+        assertTrue(Arrays.equals(expected, a));
+    }
+
+    @Test
+    public void testDouble() {
+        double[] a = new double[100_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextGaussian() * 1000;
+        }
+        double[] special = new double[] {Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0.0, 0.0,
+                Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE};
+        System.arraycopy(special, 0, a, 0, special.length);
+        double[] expected = a.clone();
+        Arrays.sort(expected);
+        RadixSort.sort(a);
+        assertTrue(Arrays.equals(expected, a));
+    }
+
+    @Test
+    public void testRanges() {
+        int[] ints = random.ints(1000).toArray();
+        long[] longs = random.longs(1000).toArray();
+        float[] floats = new float[1000];
+        double[] doubles = new double[1000];
+        short[] shorts = new short[1000];
+        char[] chars = new char[1000];
+        for (int i = 0; i < 1000; i++) {
+            floats[i] = (float) random.nextGaussian();
+            doubles[i] = random.nextGaussian();
+            shorts[i] = (short) random.nextInt();
+            chars[i] = (char) random.nextInt();
+        }
+        int from = 100, to = 900;
+
+        int[] expectedInts = ints.clone();
+        Arrays.sort(expectedInts, from, to);
+        RadixSort.sort(ints, from, to);
+        assertArrayEquals(expectedInts, ints);
+
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs, from, to);
+        RadixSort.sort(longs, from, to);
+        assertArrayEquals(expectedLongs, longs);
+
+        float[] expectedFloats = floats.clone();
+        Arrays.sort(expectedFloats, from, to);
+        RadixSort.sort(floats, from, to);
+        assertTrue(Arrays.equals(expectedFloats, floats));
+
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles, from, to);
+        RadixSort.sort(doubles, from, to);
+        assertTrue(Arrays.equals(expectedDoubles, doubles));
+
+        short[] expectedShorts = shorts.clone();
+        Arrays.sort(expectedShorts, from, to);
+        RadixSort.sort(shorts, from, to);
+        assertArrayEquals(expectedShorts, shorts);
+
+        char[] expectedChars = chars.clone();
+        Arrays.sort(expectedChars, from, to);
+        RadixSort.sort(chars, from, to);
+        assertArrayEquals(expectedChars, chars);
+    }
+
+    @Test
+    public void testShortAndChar() {
+        short[] shorts = new short[] {Short.MAX_VALUE, -1, 0, Short.MIN_VALUE, 1, -1};
+        RadixSort.sort(shorts);
+        assertArrayEquals(new short[] {Short.MIN_VALUE, -1, -1, 0, 1, Short.MAX_VALUE}, shorts);
+
+        char[] chars = new char[] {Character.MAX_VALUE, 'b', 0, 'a', 0x8000};
+        RadixSort.sort(chars);
+        assertArrayEquals(new char[] {0, 'a', 'b', 0x8000, Character.MAX_VALUE}, chars);
+    }
+
+    @Test
+    public void testKeyPayloadIsStable() {
+        int[] keys = TestUtil.generateRandomIntArray(100_000, -100, 100);
+        int[] original = keys.clone();
+        int[] payload = new int[keys.length];
+        for (int i = 0; i < payload.length; i++) payload[i] = i;
+
+        RadixSort.sort(keys, payload);
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(original[payload[i]], is(keys[i]));
+            if (i > 0) {
+                assertTrue(keys[i - 1] <= keys[i]);
+                if (keys[i - 1] == keys[i]) {
+                    assertTrue(payload[i - 1] < payload[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLongAndObjectPayload() {
+        int[] keys = new int[] {3, -1, 2, -1, 0};
+        long[] longs = new long[] {30L, -10L, 20L, -11L, 0L};
+        RadixSort.sort(keys.clone(), longs);
+        assertArrayEquals(new long[] {-10L, -11L, 0L, 20L, 30L}, longs);
+
+        String[] strings = new String[] {"three", "minus one", "two", "another minus one", "zero"};
+        RadixSort.sort(keys, strings);
+        assertArrayEquals(new int[] {-1, -1, 0, 2, 3}, keys);
+        assertArrayEquals(new String[] {"minus one", "another minus one", "zero", "two", "three"}, strings);
+    }
+
+    @Test
+    public void testArgsort() {
+        int[] keys = TestUtil.generateRandomIntArray(100_000, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        int[] original = keys.clone();
+        int[] perm = RadixSort.argsort(keys);
+        assertArrayEquals(original, keys);
+
+        int[] expected = keys.clone();
+        Arrays.sort(expected);
+        for (int i = 0; i < perm.length; i++) {
+            assertThat(keys[perm[i]], is(expected[i]));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPayloadOfDifferentLength() {
+        RadixSort.sort(new int[] {1, 2, 3}, new int[] {1, 2});
+    }
+}
@@ -0,0 +1,91 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class SelectionTest {
+
+    @Test
+    public void testNthElement() {
+        for (int high : new int[] {2, 100, Integer.MAX_VALUE}) {
+            int[] a = TestUtil.generateRandomIntArray(10_000, 0, high);
+            int[] sorted = a.clone();
+            Arrays.sort(sorted);
+            for (int n : new int[] {0, 1, 31, 5000, 9998, 9999}) {
+                int[] b = a.clone();
+                assertThat(Selection.nthElement(b, n), is(sorted[n]));
+                for (int i = 0; i < n; i++) assertTrue(b[i] <= b[n]);
+                for (int i = n + 1; i < b.length; i++) assertTrue(b[i] >= b[n]);
+                Arrays.sort(b);
+                assertArrayEquals(sorted, b);
+            }
+        }
+    }
+
+    @Test
+    public void testNthElementRange() {
+        int[] a = new int[] {9, 5, 4, 3, 2, 1, 0};
+        assertThat(Selection.nthElement(a, 1, 6, 2), is(2));
+        assertThat(a[0], is(9));
+        assertThat(a[6], is(0));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testNthElementOutOfRange() {
+        Selection.nthElement(new int[10], 10);
+    }
+
+    @Test
+    public void testPartialSort() {
+        int[] a = TestUtil.generateRandomIntArray(100_000, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        int[] sorted = a.clone();
+        Arrays.sort(sorted);
+        for (int k : new int[] {0, 1, 100, 100_000}) {
+            int[] b = a.clone();
+            Selection.partialSort(b, k);
+            assertArrayEquals(Arrays.copyOf(sorted, k), Arrays.copyOf(b, k));
+        }
+    }
+
+    @Test
+    public void testSmallestAndLargest() {
+        int[] a = TestUtil.generateRandomIntArray(100_000, -1000, 1000);
+        int[] sorted = a.clone();
+        Arrays.sort(sorted);
+        int[] expectedLargest = new int[10];
+        for (int i = 0; i < 10; i++) expectedLargest[i] = sorted[sorted.length - 1 - i];
+
+        assertArrayEquals(Arrays.copyOf(sorted, 10), Selection.smallest(Arrays.stream(a), 10));
+        assertArrayEquals(Arrays.copyOf(sorted, 10), Selection.smallest(Arrays.stream(a).iterator(), 10));
+        assertArrayEquals(Arrays.copyOf(sorted, 10), Selection.parallelSmallest(a, 10));
+        assertArrayEquals(expectedLargest, Selection.largest(Arrays.stream(a).parallel(), 10));
+    }
+
+    @Test
+    public void testFewerElementsThanK() {
+        assertArrayEquals(new int[] {1, 2, 3}, Selection.smallest(IntStream.of(3, 1, 2), 5));
+        assertArrayEquals(new int[0], Selection.smallest(IntStream.of(3, 1, 2), 0));
+    }
+
+    @Test
+    public void testSmallestObjects() {
+        List<String> words = Arrays.asList("pear", "fig", "banana", "kiwi", "apple", "plum");
+        assertThat(Selection.smallest(words.iterator(), 3), is(Arrays.asList("apple", "banana", "fig")));
+        assertThat(Selection.smallest(words.iterator(), 2, Comparator.comparingInt(String::length)),
+                is(Arrays.asList("fig", "pear")));
+    }
+}
@@ -0,0 +1,123 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Property-based check of {@link ObjectSorting#isStable()}: records with random, duplicate-heavy keys are sorted by
+ * the key and the original positions of equal keys are checked. The seed of a failed case is in the message
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class SortStabilityTest {
+
+    private static final int CASES = 200;
+
+    private static final ObjectSorting[] sorters = new ObjectSorting[] {new MergeSort(), new InsertionSort()};
+
+    /** key and the original position of a record */
+    static final class Row {
+        final int key;
+        final int position;
+
+        Row(int key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+    }
+
+    @Test
+    public void testStableSortersAreStable() {
+        for (ObjectSorting sorter : sorters) {
+            assertThat(sorter.getClass().getSimpleName(), sorter.isStable(), is(true));
+            for (long seed = 0; seed < CASES; seed++) {
+                Row[] rows = randomRows(new Random(seed));
+                sorter.sortByKey(rows, r -> r.key);
+                String message = sorter.getClass().getSimpleName() + ", seed = " + seed;
+                assertTrue(message, isSortedByKey(rows));
+                assertTrue(message, isStable(rows));
+            }
+        }
+    }
+
+    @Test
+    public void testRadixKeyPayloadIsStable() {
+        for (long seed = 0; seed < CASES; seed++) {
+            Row[] rows = randomRows(new Random(seed));
+            int[] keys = new int[rows.length];
+            for (int i = 0; i < rows.length; i++) keys[i] = rows[i].key;
+            RadixSort.sort(keys, rows);
+            assertTrue("seed = " + seed, isSortedByKey(rows));
+            assertTrue("seed = " + seed, isStable(rows));
+        }
+    }
+
+    @Test
+    public void testHarnessDetectsUnstableSort() {
+        // selection sort swaps elements over long distances, on duplicate-heavy input it breaks the order of
+        // equal keys sooner or later
+        ObjectSorting unstable = new ObjectSorting() {
+            @Override
+            public <T> void instanceSort(T[] a, Comparator<? super T> c) {
+                for (int i = 0; i < a.length; i++) {
+                    int min = i;
+                    for (int j = i + 1; j < a.length; j++) {
+                        if (c.compare(a[j], a[min]) < 0) min = j;
+                    }
+                    T tmp = a[i];
+                    a[i] = a[min];
+                    a[min] = tmp;
+                }
+            }
+
+            @Override
+            public boolean isStable() {
+                return false;
+            }
+        };
+        for (long seed = 0; seed < CASES; seed++) {
+            Row[] rows = randomRows(new Random(seed));
+            unstable.sortByKey(rows, r -> r.key);
+            assertTrue(isSortedByKey(rows));
+            if (!isStable(rows)) {
+                return;
+            }
+        }
+        fail("no instability detected in " + CASES + " cases");
+    }
+
+    /**
+     * up to 1000 rows with keys from a narrow random range, so there are lots of duplicates
+     */
+    private static Row[] randomRows(Random random) {
+        int n = random.nextInt(1000);
+        int distinct = 1 + random.nextInt(1 + n / 10);
+        Row[] rows = new Row[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = new Row(random.nextInt(distinct) - distinct / 2, i);
+        }
+        return rows;
+    }
+
+    private static boolean isSortedByKey(Row[] rows) {
+        for (int i = 1; i < rows.length; i++) {
+            if (rows[i - 1].key > rows[i].key) return false;
+        }
+        return true;
+    }
+
+    private static boolean isStable(Row[] rows) {
+        for (int i = 1; i < rows.length; i++) {
+            if (rows[i - 1].key == rows[i].key && rows[i - 1].position > rows[i].position) return false;
+        }
+        return true;
+    }
+}
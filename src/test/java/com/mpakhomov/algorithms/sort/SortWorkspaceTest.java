@@ -0,0 +1,48 @@
+package com.mpakhomov.algorithms.sort;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class SortWorkspaceTest {
+
+    @Test
+    public void testBuffersAreReused() {
+        SortWorkspace workspace = new SortWorkspace();
+        int[] ints = workspace.ints(0, 100);
+        assertThat(ints.length, greaterThanOrEqualTo(100));
+        assertThat(workspace.ints(0, 50), sameInstance(ints));
+        assertThat(workspace.ints(0, 100), sameInstance(ints));
+        assertThat(workspace.ints(1, 100), not(sameInstance(ints)));
+
+        int[] grown = workspace.ints(0, 101);
+        assertThat(grown.length, greaterThanOrEqualTo(150));
+        assertThat(workspace.ints(0, 150), sameInstance(grown));
+
+        long[] longs = workspace.longs(0, 10);
+        assertThat(workspace.longs(0, 10), sameInstance(longs));
+    }
+
+    @Test
+    public void testHistogramsAreZeroed() {
+        SortWorkspace workspace = new SortWorkspace();
+        int[][] histograms = workspace.histograms(4, 256);
+        histograms[3][255] = 42;
+        int[][] again = workspace.histograms(4, 256);
+        assertThat(again, sameInstance(histograms));
+        assertThat(again[3][255], is(0));
+    }
+
+    @Test
+    public void testForCurrentThread() {
+        assertThat(SortWorkspace.forCurrentThread(), sameInstance(SortWorkspace.forCurrentThread()));
+    }
+}
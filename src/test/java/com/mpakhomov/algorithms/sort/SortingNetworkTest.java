@@ -0,0 +1,59 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import com.mpakhomov.seq.Sequence;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class SortingNetworkTest {
+
+    @Test
+    public void testZeroOnePrinciple() {
+        // a network sorts everything iff it sorts all the sequences of zeroes and ones
+        for (int n = 0; n <= 16; n++) {
+            for (int bits = 0; bits < (1 << n); bits++) {
+                int[] a = new int[n];
+                for (int i = 0; i < n; i++) a[i] = (bits >>> i) & 1;
+                SortingNetwork.sort(a, 0, n - 1);
+                assertTrue("n = " + n + ", bits = " + bits, Sequence.isSorted(a));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomUpToMaxSize() {
+        for (int n = 0; n <= SortingNetwork.MAX_SIZE; n++) {
+            for (int round = 0; round < 1000; round++) {
+                // sort the middle of a longer array, the borders must stay untouched
+                int[] a = TestUtil.generateRandomIntArray(n + 2, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                int[] expected = a.clone();
+                Arrays.sort(expected, 1, n + 1);
+                SortingNetwork.sort(a, 1, n);
+                assertArrayEquals(expected, a);
+            }
+        }
+    }
+
+    @Test
+    public void testNetworkSizes() {
+        // Batcher's odd-even merge sort: 19 comparators for 8, 63 for 16, 191 for 32
+        assertThat(SortingNetwork.size(8), is(19));
+        assertThat(SortingNetwork.size(16), is(63));
+        assertThat(SortingNetwork.size(32), is(191));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLong() {
+        SortingNetwork.sort(new int[33], 0, 32);
+    }
+}
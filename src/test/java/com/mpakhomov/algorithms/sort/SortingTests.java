@@ -4,8 +4,10 @@ import com.mpakhomov.TestUtil;
 import com.mpakhomov.seq.Sequence;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
@@ -15,7 +17,10 @@ public class SortingTests {
 
     private final static Sorting[] sorters = new Sorting[] {
             new BubbleSort(), new InsertionSort(), new LSDSortFor32BitIntegers(), new MergeSort(),
-            new SelectionSort()
+            new MergeSort(true), new SelectionSort(), new ParallelMergeSort(),
+            new TimSort(), new RadixSort(), new ParallelRadixSort(), new QuickSort(), new ParallelQuickSort(),
+            new CountingSort(), new ParallelCountingSort(), new AdaptiveSort(), new HeapSort(), new HeapSort(2),
+            new ParallelRadixSort(ForkJoinPool.commonPool(), ParallelRadixSort.Mode.MSD)
     };
 
     @Test
@@ -54,4 +59,66 @@ public class SortingTests {
             assertTrue(sorter.getClass().getSimpleName(), Sequence.isSorted(random));
         }
     }
+
+    @Test
+    public void testWithSharedWorkspace() {
+        SortWorkspace workspace = new SortWorkspace();
+        // buffers left over from the longer arrays must not leak into the shorter ones
+        for (int size : new int[] {100, 1000, 10, 500, 0, 1, 2000}) {
+            for (Sorting sorter : sorters) {
+                int[] a = TestUtil.generateRandomIntArray(size, 0, 100);
+                sorter.instanceSort(a, workspace);
+                assertTrue(sorter.getClass().getSimpleName(), Sequence.isSorted(a));
+            }
+        }
+    }
+
+    @Test
+    public void testRange() {
+        for (Sorting sorter : sorters) {
+            for (int size : new int[] {0, 1, 2, 10, 100, 1000}) {
+                // non-negative: LSDSortFor32BitIntegers treats ints as unsigned
+                int[] a = TestUtil.generateRandomIntArray(size, 0, 100);
+                int from = size / 4;
+                int to = size - size / 3;
+                int[] expected = a.clone();
+                Arrays.sort(expected, from, to);
+                sorter.instanceSort(a, from, to);
+                assertThat(sorter.getClass().getSimpleName(), a, is(expected));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRangeFromGreaterThanTo() {
+        new MergeSort().instanceSort(new int[10], 5, 4);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testRangeOutOfBounds() {
+        new RadixSort().instanceSort(new int[10], 0, 11);
+    }
+
+    @Test
+    public void testAllocationFreeWithWorkspace() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        int[] input = TestUtil.generateRandomIntArray(10_000, 0, 1_000_000);
+        int[] a = new int[input.length];
+        for (Sorting sorter : sorters) {
+            if (!sorter.isAllocationFree()) continue;
+            SortWorkspace workspace = new SortWorkspace();
+            // the first call grows the workspace
+            System.arraycopy(input, 0, a, 0, a.length);
+            sorter.instanceSort(a, workspace);
+
+            System.arraycopy(input, 0, a, 0, a.length);
+            long before = threads.getThreadAllocatedBytes(thread);
+            sorter.instanceSort(a, workspace);
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+            assertTrue(sorter.getClass().getSimpleName(), Sequence.isSorted(a));
+            // an auxiliary array alone would take 40 KB, leave some room for the measurement itself
+            assertTrue(sorter.getClass().getSimpleName() + " allocated " + allocated + " bytes", allocated < 1024);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package com.mpakhomov.algorithms.sort;
+
+import com.mpakhomov.TestUtil;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link SortingTests}
+ */
+public class TimSortTest {
+
+    private final Random random = new Random();
+
+    @Test
+    public void testRandom() {
+        for (int n : new int[] {0, 1, 2, 31, 32, 33, 64, 1000, 100_000}) {
+            int[] a = TestUtil.generateRandomIntArray(n, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            assertSortedLikeJdk(a);
+        }
+    }
+
+    @Test
+    public void testFewUnique() {
+        assertSortedLikeJdk(TestUtil.generateRandomIntArray(100_000, 0, 4));
+    }
+
+    @Test
+    public void testNearlySorted() {
+        int[] a = new int[100_000];
+        for (int i = 0; i < a.length; i++) a[i] = i;
+        for (int i = 0; i < 100; i++) {
+            int j = random.nextInt(a.length);
+            int k = random.nextInt(a.length);
+            int tmp = a[j];
+            a[j] = a[k];
+            a[k] = tmp;
+        }
+        assertSortedLikeJdk(a);
+    }
+
+    @Test
+    public void testAscendingAndDescendingRuns() {
+        // runs of random length, every other run is descending
+        int[] a = new int[100_000];
+        int i = 0;
+        boolean ascending = true;
+        while (i < a.length) {
+            int len = Math.min(1 + random.nextInt(5000), a.length - i);
+            int start = random.nextInt(1_000_000);
+            for (int j = 0; j < len; j++) {
+                a[i + j] = ascending ? start + j : start - j;
+            }
+            i += len;
+            ascending = !ascending;
+        }
+        assertSortedLikeJdk(a);
+    }
+
+    @Test
+    public void testMinRunLength() {
+        assertThat(TimSort.minRunLength(31), is(31));
+        assertThat(TimSort.minRunLength(63), is(32));
+        assertThat(TimSort.minRunLength(65), is(17));
+        assertThat(TimSort.minRunLength(64), is(16));
+    }
+
+    private static void assertSortedLikeJdk(int[] a) {
+        int[] expected = a.clone();
+        Arrays.sort(expected);
+        TimSort.sort(a);
+        assertArrayEquals(expected, a);
+    }
+}
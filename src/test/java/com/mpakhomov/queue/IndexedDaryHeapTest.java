@@ -0,0 +1,128 @@
+package com.mpakhomov.queue;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class IndexedDaryHeapTest {
+
+    @Test
+    public void testDecreaseKey() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(3, 10);
+        for (int id = 0; id < 7; id++) {
+            heap.push(id, 10 * (id + 1));
+        }
+        heap.decreaseKey(5, 5);
+        assertThat(heap.keyOf(5), is(5L));
+        assertThat(heap.peekId(), is(5));
+        assertThat(heap.pop(), is(5));
+        assertThat(heap.contains(5), is(false));
+        assertThat(heap.pop(), is(0));
+        assertThat(heap.size(), is(5));
+    }
+
+    @Test
+    public void testRemove() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(2, 5);
+        heap.push(0, 3);
+        heap.push(1, 1);
+        heap.push(2, 2);
+        assertThat(heap.remove(1), is(true));
+        assertThat(heap.remove(1), is(false));
+        assertThat(heap.peekKey(), is(2L));
+        heap.push(1, 0);
+        assertThat(heap.pop(), is(1));
+        assertThat(heap.pop(), is(2));
+        assertThat(heap.pop(), is(0));
+        assertThat(heap.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testRandomOperationsAgainstTreeSet() {
+        Random random = new Random(42);
+        int capacity = 500;
+        for (int d : new int[] {2, 3, 4, 8}) {
+            IndexedDaryHeap heap = new IndexedDaryHeap(d, capacity);
+            // (key, id) pairs packed into longs, ordered by key first
+            TreeSet<Long> expected = new TreeSet<>();
+            long[] keys = new long[capacity];
+            for (int i = 0; i < 100_000; i++) {
+                int id = random.nextInt(capacity);
+                long key = random.nextInt(1 << 20);
+                switch (random.nextInt(4)) {
+                    case 0:
+                        if (!heap.contains(id)) {
+                            heap.push(id, key);
+                            keys[id] = key;
+                            expected.add(pack(key, id));
+                        }
+                        break;
+                    case 1:
+                        if (heap.contains(id) && key <= keys[id]) {
+                            heap.decreaseKey(id, key);
+                            expected.remove(pack(keys[id], id));
+                            keys[id] = key;
+                            expected.add(pack(key, id));
+                        }
+                        break;
+                    case 2:
+                        assertThat(heap.remove(id), is(expected.remove(pack(keys[id], id))));
+                        break;
+                    default:
+                        if (!expected.isEmpty()) {
+                            long first = expected.pollFirst();
+                            assertThat(heap.peekKey(), is(first >>> 32));
+                            // ties may come out in any order, so compare keys only
+                            int popped = heap.pop();
+                            assertThat(keys[popped], is(first >>> 32));
+                            if (popped != (int) first) {
+                                expected.add(first);
+                                expected.remove(pack(keys[popped], popped));
+                            }
+                        }
+                }
+                assertThat(heap.size(), is(expected.size()));
+            }
+            heap.clear();
+            assertThat(heap.isEmpty(), is(true));
+            assertThat(heap.contains(0), is(false));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPushTwice() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(2);
+        heap.push(1, 5);
+        heap.push(1, 7);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecreaseKeyWithGreaterKey() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(2);
+        heap.push(1, 5);
+        heap.decreaseKey(1, 100);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testDecreaseKeyOfAbsentId() {
+        new IndexedDaryHeap(2).decreaseKey(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIdOutOfRange() {
+        new IndexedDaryHeap(2).push(2, 1);
+    }
+
+    private static long pack(long key, int id) {
+        return (key << 32) | id;
+    }
+}
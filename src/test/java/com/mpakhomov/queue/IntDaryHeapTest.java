@@ -0,0 +1,94 @@
+package com.mpakhomov.queue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class IntDaryHeapTest {
+
+    @Test
+    public void testPushPop() {
+        IntDaryHeap heap = new IntDaryHeap();
+        for (int key : new int[] {5, 3, 8, 1, 9, 1, -4}) {
+            heap.push(key);
+        }
+        assertThat(heap.size(), is(7));
+        assertThat(heap.peek(), is(-4));
+        int[] popped = new int[7];
+        for (int i = 0; i < popped.length; i++) {
+            popped[i] = heap.pop();
+        }
+        assertThat(popped, is(new int[] {-4, 1, 1, 3, 5, 8, 9}));
+        assertThat(heap.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testRandomOperationsAgainstPriorityQueue() {
+        Random random = new Random(42);
+        for (int d : new int[] {2, 3, 4, 8, 16}) {
+            IntDaryHeap heap = new IntDaryHeap(d, 0);
+            PriorityQueue<Integer> expected = new PriorityQueue<>();
+            for (int i = 0; i < 100_000; i++) {
+                if (expected.isEmpty() || random.nextInt(3) > 0) {
+                    int key = random.nextInt(1000);
+                    heap.push(key);
+                    expected.add(key);
+                } else {
+                    assertThat(heap.pop(), is(expected.poll()));
+                }
+                assertThat(heap.size(), is(expected.size()));
+            }
+            while (!expected.isEmpty()) {
+                assertThat(heap.pop(), is(expected.poll()));
+            }
+        }
+    }
+
+    @Test
+    public void testHeapify() {
+        Random random = new Random(42);
+        for (int d : new int[] {2, 4, 7}) {
+            int[] a = random.ints(10_001, -500, 500).toArray();
+            int[] expected = a.clone();
+            Arrays.sort(expected);
+            IntDaryHeap heap = IntDaryHeap.heapify(d, a);
+            heap.push(1000);
+            for (int key : expected) {
+                assertThat(heap.pop(), is(key));
+            }
+            assertThat(heap.pop(), is(1000));
+        }
+    }
+
+    @Test
+    public void testPopDownToOneKey() {
+        // the last key left must not be compared with the slot it has just been moved out of
+        IntDaryHeap heap = IntDaryHeap.heapify(2, new int[] {7, 3});
+        assertThat(heap.pop(), is(3));
+        assertThat(heap.size(), is(1));
+        heap.push(5);
+        assertThat(heap.pop(), is(5));
+        assertThat(heap.pop(), is(7));
+        assertThat(heap.isEmpty(), is(true));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testPopEmpty() {
+        new IntDaryHeap().pop();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidArity() {
+        new IntDaryHeap(1, 10);
+    }
+}
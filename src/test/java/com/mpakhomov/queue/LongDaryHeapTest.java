@@ -0,0 +1,66 @@
+package com.mpakhomov.queue;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+public class LongDaryHeapTest {
+
+    @Test
+    public void testHeapifyAndPush() {
+        Random random = new Random(42);
+        long[] a = random.longs(10_000).toArray();
+        long[] extra = random.longs(5_000).toArray();
+        long[] expected = new long[a.length + extra.length];
+        System.arraycopy(a, 0, expected, 0, a.length);
+        System.arraycopy(extra, 0, expected, a.length, extra.length);
+        Arrays.sort(expected);
+
+        LongDaryHeap heap = LongDaryHeap.heapify(8, a);
+        for (long key : extra) {
+            heap.push(key);
+        }
+        for (long key : expected) {
+            assertThat(heap.pop(), is(key));
+        }
+        assertThat(heap.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testPackedPriorityAndId() {
+        // priority in the high 32 bits, task id in the low ones
+        LongDaryHeap heap = new LongDaryHeap();
+        heap.push(pack(5, 1));
+        heap.push(pack(2, 2));
+        heap.push(pack(5, 0));
+        heap.push(pack(9, 3));
+        assertThat((int) heap.pop(), is(2));
+        assertThat((int) heap.pop(), is(0));
+        assertThat((int) heap.pop(), is(1));
+        assertThat((int) heap.pop(), is(3));
+    }
+
+    @Test
+    public void testPopDownToOneKey() {
+        // the last key left must not be compared with the slot it has just been moved out of
+        LongDaryHeap heap = LongDaryHeap.heapify(2, new long[] {7L, 3L});
+        assertThat(heap.pop(), is(3L));
+        assertThat(heap.size(), is(1));
+        heap.push(5L);
+        assertThat(heap.pop(), is(5L));
+        assertThat(heap.pop(), is(7L));
+        assertThat(heap.isEmpty(), is(true));
+    }
+
+    private static long pack(int priority, int id) {
+        return ((long) priority << 32) | (id & 0xFFFFFFFFL);
+    }
+}
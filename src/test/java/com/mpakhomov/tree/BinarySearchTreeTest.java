@@ -6,7 +6,11 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.Matchers.contains;
 import static org.junit.Assert.assertThat;
@@ -539,4 +543,44 @@ public class BinarySearchTreeTest {
         Integer nullInteger = null;
         correctBst1.delete(nullInteger);
     }
+
+    @Test
+    public void testFromSorted() {
+        List<List<String>> lol = new ArrayList<>();
+        lol.add(Arrays.asList("4"));
+        lol.add(Arrays.asList("2", "6"));
+        lol.add(Arrays.asList("1", "3", "5", "7"));
+        BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(Arrays.asList(1, 2, 3, 4, 5, 6, 7).iterator(), 7);
+        assertThat(BinarySearchTree.traverseByLevelsAsString(tree.getRoot()), contains(lol.toArray()));
+        assertThat(tree.getSize(), is(7));
+
+        for (int n = 0; n <= 100; n++) {
+            List<Integer> keys = IntStream.range(0, n).boxed().collect(Collectors.toList());
+            tree = BinarySearchTree.fromSorted(keys.iterator(), n);
+            assertThat(tree.getSize(), is(n));
+            assertThat(BinarySearchTree.traverseInOrderIterative(tree.getRoot()), is(keys));
+            int height = BinarySearchTree.traverseByLevelsIterative(tree.getRoot()).size();
+            assertThat(height, is(32 - Integer.numberOfLeadingZeros(n)));
+            // it's an ordinary BST after that
+            tree.insert(n / 2);
+            assertThat(tree.search(n / 2), is(notNullValue()));
+        }
+    }
+
+    @Test
+    public void testParallelFromSorted() {
+        final int n = 100_000;
+        List<Integer> keys = IntStream.range(0, n).boxed().collect(Collectors.toList());
+        BinarySearchTree<Integer> tree = BinarySearchTree.parallelFromSorted(keys);
+        assertThat(tree.getSize(), is(n));
+        assertThat(BinarySearchTree.traverseInOrderIterative(tree.getRoot()), is(keys));
+        assertThat(BinarySearchTree.isValidBst2(tree.getRoot()), is(true));
+        assertThat(BinarySearchTree.traverseByLevelsIterative(tree.getRoot()).size(), is(17));
+        assertThat(BinarySearchTree.parallelFromSorted(Collections.<Integer>emptyList()).getRoot(), is(nullValue()));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testFromSortedTooFewKeys() {
+        BinarySearchTree.fromSorted(Arrays.asList(1, 2, 3).iterator(), 4);
+    }
 }
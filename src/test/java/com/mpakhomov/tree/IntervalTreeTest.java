@@ -0,0 +1,138 @@
+package com.mpakhomov.tree;
+
+import com.mpakhomov.tree.IntervalTree.Interval;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link IntervalTree}
+ */
+public class IntervalTreeTest {
+
+    /** intervals from CLRS, figure 14.4 */
+    private IntervalTree<Integer> treeFromTheBook;
+
+    @Before
+    public void setUp() {
+        treeFromTheBook = new IntervalTree<>();
+        int[][] intervals = {{16, 21}, {8, 9}, {25, 30}, {5, 8}, {15, 23}, {17, 19}, {26, 26}, {0, 3}, {6, 10},
+                {19, 20}};
+        for (int[] interval : intervals) {
+            treeFromTheBook.insert(interval[0], interval[1]);
+        }
+    }
+
+    /**
+     * checks red black tree properties and that every node's max is the maximum high endpoint of its subtree
+     */
+    private static <T extends Comparable<T>> void checkIntervalTree(IntervalTree<T> tree) {
+        TreeTestUtil.checkRedBlackTree(tree.getRoot());
+        checkMax(tree.getRoot());
+    }
+
+    private static <T extends Comparable<T>> T checkMax(IntervalNode<T> x) {
+        if (x == null) {
+            return null;
+        }
+        T max = x.high;
+        IntervalNode<T> left = IntervalNode.node(x.left);
+        IntervalNode<T> right = IntervalNode.node(x.right);
+        for (T childMax : Arrays.asList(checkMax(left), checkMax(right))) {
+            if (childMax != null && childMax.compareTo(max) > 0) {
+                max = childMax;
+            }
+        }
+        assertThat(x.max, is(max));
+        return max;
+    }
+
+    @Test
+    public void testTreeFromTheBook() {
+        checkIntervalTree(treeFromTheBook);
+        assertThat(treeFromTheBook.getSize(), is(10));
+        assertThat(treeFromTheBook.getRoot().max, is(30));
+        assertThat(treeFromTheBook.anyOverlap(22, 25), is(notNullValue()));
+        assertThat(treeFromTheBook.anyOverlap(11, 14), is(nullValue()));
+        assertThat(treeFromTheBook.allOverlaps(22, 25), contains(new Interval<>(15, 23), new Interval<>(25, 30)));
+        assertThat(treeFromTheBook.allOverlaps(8, 8), contains(new Interval<>(5, 8), new Interval<>(6, 10),
+                new Interval<>(8, 9)));
+        assertThat(treeFromTheBook.allOverlaps(11, 14), is(empty()));
+        assertThat(treeFromTheBook.allOverlaps(-10, 100).size(), is(10));
+    }
+
+    @Test
+    public void testDelete() {
+        assertThat(treeFromTheBook.delete(15, 23), is(true));
+        assertThat(treeFromTheBook.delete(15, 23), is(false));
+        assertThat(treeFromTheBook.delete(16, 20), is(false));
+        assertThat(treeFromTheBook.delete(25, 30), is(true));
+        checkIntervalTree(treeFromTheBook);
+        assertThat(treeFromTheBook.getSize(), is(8));
+        assertThat(treeFromTheBook.getRoot().max, is(26));
+        assertThat(treeFromTheBook.anyOverlap(22, 25), is(nullValue()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyInterval() {
+        treeFromTheBook.insert(5, 4);
+    }
+
+    @Test
+    public void testRandomOperationsAgainstLinearScan() {
+        Random random = new Random(11);
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        List<Interval<Integer>> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int low = random.nextInt(1000);
+            int high = low + random.nextInt(50);
+            switch (random.nextInt(3)) {
+                case 0:
+                    if (!expected.isEmpty() && random.nextBoolean()) {
+                        // delete an interval that is in the tree, duplicates included
+                        Interval<Integer> interval = expected.get(random.nextInt(expected.size()));
+                        low = interval.getLow();
+                        high = interval.getHigh();
+                    }
+                    assertThat(tree.delete(low, high), is(expected.remove(new Interval<>(low, high))));
+                    break;
+                case 1:
+                    tree.insert(low, high);
+                    expected.add(new Interval<>(low, high));
+                    break;
+                default:
+                    final int a = low;
+                    final int b = high;
+                    List<Interval<Integer>> overlaps = expected.stream()
+                            .filter(interval -> interval.getLow() <= b && interval.getHigh() >= a)
+                            .collect(Collectors.toList());
+                    Interval<Integer> any = tree.anyOverlap(a, b);
+                    assertThat(any == null ? overlaps.isEmpty() : overlaps.contains(any), is(true));
+                    List<Interval<Integer>> all = tree.allOverlaps(a, b);
+                    assertThat(sorted(all), is(sorted(overlaps)));
+                    assertThat(all.stream().map(Interval::getLow).collect(Collectors.toList()),
+                            is(overlaps.stream().map(Interval::getLow).sorted().collect(Collectors.toList())));
+            }
+            if (i % 500 == 0) {
+                checkIntervalTree(tree);
+            }
+        }
+        checkIntervalTree(tree);
+        assertThat(tree.getSize(), is(expected.size()));
+    }
+
+    private static List<String> sorted(List<Interval<Integer>> intervals) {
+        return intervals.stream().map(Interval::toString).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,210 @@
+package com.mpakhomov.tree;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author mpakhomov
+ * @since 10/18/26
+ * @see {@link RedBlackTreeMap}
+ */
+public class RedBlackTreeMapTest {
+
+    private RedBlackTreeMap<Integer, String> map;
+
+    @Before
+    public void setUp() {
+        map = new RedBlackTreeMap<>();
+        for (int key = 10; key <= 100; key += 10) {
+            map.put(key, "v" + key);
+        }
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        assertThat(map.size(), is(10));
+        assertThat(map.get(30), is("v30"));
+        assertThat(map.get(35), is(nullValue()));
+        assertThat(map.put(30, "x"), is("v30"));
+        assertThat(map.get(30), is("x"));
+        assertThat(map.size(), is(10));
+        assertThat(map.put(35, null), is(nullValue()));
+        assertThat(map.containsKey(35), is(true));
+        assertThat(map.remove(30), is("x"));
+        assertThat(map.remove(30), is(nullValue()));
+        assertThat(map.size(), is(10));
+        TreeTestUtil.checkRedBlackTree(map.tree.getRoot());
+        map.clear();
+        assertThat(map.isEmpty(), is(true));
+        assertThat(map.firstEntry(), is(nullValue()));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullKey() {
+        map.put(null, "v");
+    }
+
+    @Test
+    public void testNavigation() {
+        assertThat(map.firstKey(), is(10));
+        assertThat(map.lastKey(), is(100));
+        assertThat(map.floorKey(35), is(30));
+        assertThat(map.floorKey(30), is(30));
+        assertThat(map.floorKey(5), is(nullValue()));
+        assertThat(map.lowerKey(30), is(20));
+        assertThat(map.ceilingKey(35), is(40));
+        assertThat(map.ceilingKey(40), is(40));
+        assertThat(map.ceilingKey(105), is(nullValue()));
+        assertThat(map.higherKey(40), is(50));
+        assertThat(map.higherEntry(40).getValue(), is("v50"));
+        assertThat(map.pollFirstEntry().getKey(), is(10));
+        assertThat(map.pollLastEntry().getKey(), is(100));
+        assertThat(map.keySet(), contains(20, 30, 40, 50, 60, 70, 80, 90));
+        assertThat(map.descendingKeySet(), contains(90, 80, 70, 60, 50, 40, 30, 20));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testFirstKeyOfEmptyMap() {
+        new RedBlackTreeMap<Integer, String>().firstKey();
+    }
+
+    @Test
+    public void testViews() {
+        assertThat(map.subMap(20, 50).keySet(), contains(20, 30, 40));
+        assertThat(map.subMap(20, false, 50, true).keySet(), contains(30, 40, 50));
+        assertThat(map.headMap(30).keySet(), contains(10, 20));
+        assertThat(map.tailMap(90).keySet(), contains(90, 100));
+        assertThat(map.descendingMap().headMap(80, true).keySet(), contains(100, 90, 80));
+        assertThat(map.descendingMap().subMap(70, 40).keySet(), contains(70, 60, 50));
+
+        NavigableMap<Integer, String> sub = map.subMap(25, true, 75, true);
+        assertThat(sub.size(), is(5));
+        assertThat(sub.firstKey(), is(30));
+        assertThat(sub.lastKey(), is(70));
+        assertThat(sub.floorKey(25), is(nullValue()));
+        assertThat(sub.ceilingKey(0), is(30));
+        assertThat(sub.higherKey(70), is(nullValue()));
+        assertThat(sub.lowerKey(1000), is(70));
+        assertThat(sub.get(80), is(nullValue()));
+        assertThat(sub.descendingMap().firstKey(), is(70));
+
+        // the views are backed by the map
+        sub.put(55, "v55");
+        assertThat(map.get(55), is("v55"));
+        map.remove(40);
+        assertThat(sub.keySet(), contains(30, 50, 55, 60, 70));
+        sub.clear();
+        assertThat(map.keySet(), contains(10, 20, 80, 90, 100));
+        TreeTestUtil.checkRedBlackTree(map.tree.getRoot());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutOutOfRange() {
+        map.headMap(50).put(50, "v");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSubMapOfViewOutOfRange() {
+        map.subMap(20, 50).subMap(30, 60);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSubMapFromGreaterThanTo() {
+        map.subMap(50, 20);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testFailFastIterator() {
+        for (Integer key : map.keySet()) {
+            if (key == 50) {
+                map.put(55, "v55");
+            }
+        }
+    }
+
+    @Test
+    public void testValueReplacementIsNotStructural() {
+        for (Map.Entry<Integer, String> e : map.entrySet()) {
+            map.put(e.getKey(), "x");
+        }
+        assertThat(new HashSet<>(map.values()), is(Collections.singleton("x")));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        // removal of nodes with two children moves their successors, iterators have to keep track of it
+        for (boolean descending : new boolean[]{false, true}) {
+            Random rnd = new Random(descending ? 1 : 2);
+            RedBlackTreeMap<Integer, Integer> rbt = new RedBlackTreeMap<>();
+            TreeMap<Integer, Integer> expected = new TreeMap<>();
+            for (int i = 0; i < 1000; i++) {
+                int key = rnd.nextInt(2000);
+                rbt.put(key, i);
+                expected.put(key, i);
+            }
+            NavigableMap<Integer, Integer> view = descending
+                    ? rbt.descendingMap().subMap(1500, true, 500, false)
+                    : rbt.subMap(500, true, 1500, false);
+            NavigableMap<Integer, Integer> expectedView = descending
+                    ? expected.descendingMap().subMap(1500, true, 500, false)
+                    : expected.subMap(500, true, 1500, false);
+            List<Integer> expectedVisited = new ArrayList<>(expectedView.keySet());
+            List<Integer> visited = new ArrayList<>();
+            for (Iterator<Map.Entry<Integer, Integer>> it = view.entrySet().iterator(); it.hasNext(); ) {
+                // an entry is a live node, after removal it may hold its successor's contents
+                Integer key = it.next().getKey();
+                visited.add(key);
+                if (key % 3 != 0) {
+                    it.remove();
+                    expected.remove(key);
+                }
+            }
+            assertThat(visited, is(expectedVisited));
+            assertThat(new ArrayList<>(view.keySet()), is(new ArrayList<>(expectedView.keySet())));
+            assertThat(new ArrayList<>(rbt.entrySet()), is(new ArrayList<>(expected.entrySet())));
+            TreeTestUtil.checkRedBlackTree(rbt.tree.getRoot());
+        }
+    }
+
+    @Test
+    public void testRandomOperationsAgainstTreeMap() {
+        Random rnd = new Random(42);
+        RedBlackTreeMap<Integer, Integer> rbt = new RedBlackTreeMap<>();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            int key = rnd.nextInt(500);
+            switch (rnd.nextInt(4)) {
+                case 0:
+                case 1:
+                    assertThat(rbt.put(key, i), is(expected.put(key, i)));
+                    break;
+                case 2:
+                    assertThat(rbt.remove(key), is(expected.remove(key)));
+                    break;
+                default:
+                    assertThat(rbt.floorKey(key), is(expected.floorKey(key)));
+                    assertThat(rbt.lowerKey(key), is(expected.lowerKey(key)));
+                    assertThat(rbt.ceilingKey(key), is(expected.ceilingKey(key)));
+                    assertThat(rbt.higherKey(key), is(expected.higherKey(key)));
+                    int to = key + rnd.nextInt(100);
+                    assertThat(rbt.subMap(key, to), is(expected.subMap(key, to)));
+                    assertThat(new ArrayList<>(rbt.descendingMap().tailMap(key, false).keySet()),
+                            is(new ArrayList<>(expected.descendingMap().tailMap(key, false).keySet())));
+            }
+            assertThat(rbt.size(), is(expected.size()));
+            if (i % 1000 == 0) {
+                TreeTestUtil.checkRedBlackTree(rbt.tree.getRoot());
+            }
+        }
+        assertThat(rbt, is(expected));
+        assertThat(new ArrayList<>(rbt.entrySet()), is(new ArrayList<>(expected.entrySet())));
+        TreeTestUtil.checkRedBlackTree(rbt.tree.getRoot());
+    }
+}
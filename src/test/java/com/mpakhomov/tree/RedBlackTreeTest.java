@@ -687,6 +687,98 @@ public class RedBlackTreeTest {
         tree2.rbtDelete(nullInteger);
     }
 
+    @Test
+    public void testOrderStatisticsTreeFromTheBook() {
+        // 1 2 5 7 8 11 14 15
+        assertThat(treeFromTheBook.select(0), is(1));
+        assertThat(treeFromTheBook.select(3), is(7));
+        assertThat(treeFromTheBook.select(7), is(15));
+        assertThat(treeFromTheBook.rank(7), is(3));
+        assertThat(treeFromTheBook.rank(6), is(3));
+        assertThat(treeFromTheBook.rank(0), is(0));
+        assertThat(treeFromTheBook.rank(100), is(8));
+        assertThat(treeFromTheBook.countInRange(2, 11), is(5));
+        assertThat(treeFromTheBook.countInRange(3, 4), is(0));
+        assertThat(treeFromTheBook.countInRange(11, 2), is(0));
+        assertThat(((RbtNode) treeFromTheBook.getRoot()).size, is(8));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSelectOutOfRange() {
+        treeFromTheBook.select(8);
+    }
+
+    @Test
+    public void testOrderStatisticsWithInsertionsAndDeletions() {
+        // keys repeat, so there are equal keys on both sides of a node after rotations
+        Random random = new Random(7);
+        RedBlackTree<Integer> tree = new RedBlackTree<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(1000);
+            if (random.nextInt(3) == 0) {
+                assertThat(tree.rbtDelete(key), is(expected.remove((Integer) key)));
+            } else {
+                tree.put(key);
+                expected.add(key);
+            }
+        }
+        Collections.sort(expected);
+        TreeTestUtil.checkRedBlackTree(tree.getRoot());
+        assertThat(tree.getSize(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(tree.select(i), is(expected.get(i)));
+        }
+        for (int key = -1; key <= 1000; key += 7) {
+            final int lo = key;
+            final int hi = key + 50;
+            assertThat(tree.rank(lo), is((int) expected.stream().filter(k -> k < lo).count()));
+            assertThat(tree.countInRange(lo, hi), is((int) expected.stream().filter(k -> k >= lo && k <= hi).count()));
+        }
+    }
+
+    @Test
+    public void testFromSorted() {
+        for (int n = 0; n <= 300; n++) {
+            List<Integer> keys = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                keys.add(2 * i);
+            }
+            RedBlackTree<Integer> tree = RedBlackTree.fromSorted(keys.iterator(), n);
+            TreeTestUtil.checkRedBlackTree(tree.getRoot());
+            assertThat(tree.getSize(), is(n));
+            assertThat(BinarySearchTree.traverseInOrderIterative(tree.getRoot()), is(keys));
+            assertThat(BinarySearchTree.traverseByLevelsIterative(tree.getRoot()).size(),
+                    is(32 - Integer.numberOfLeadingZeros(n)));
+            if (n > 0) {
+                assertThat(tree.select(n - 1), is(2 * (n - 1)));
+                assertThat(tree.rank(n), is((n + 1) / 2));
+            }
+            // insertions and deletions keep working on the loaded tree
+            tree.put(1);
+            tree.put(2 * n + 1);
+            if (n > 0) {
+                tree.rbtDelete(0);
+            }
+            TreeTestUtil.checkRedBlackTree(tree.getRoot());
+            assertThat(tree.getSize(), is(n == 0 ? 2 : n + 1));
+        }
+    }
+
+    @Test
+    public void testParallelFromSorted() {
+        final int n = 100_000;
+        List<Integer> keys = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            keys.add(i);
+        }
+        RedBlackTree<Integer> tree = RedBlackTree.parallelFromSorted(keys);
+        TreeTestUtil.checkRedBlackTree(tree.getRoot());
+        assertThat(tree.getSize(), is(n));
+        assertThat(BinarySearchTree.traverseInOrderIterative(tree.getRoot()), is(keys));
+        assertThat(tree.select(12_345), is(12_345));
+    }
+
     private void verifyRbtOf3Nodes(RedBlackTree<Integer> tree) {
         RbtNode<Integer> root = (RbtNode<Integer>)tree.getRoot();
         assertThat(tree.getSize(), equalTo(3));
@@ -0,0 +1,50 @@
+package com.mpakhomov.tree;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * checks of tree invariants shared by the tests of the trees built on {@link RedBlackTree}
+ *
+ * @author mpakhomov
+ * @since 10/18/26
+ */
+class TreeTestUtil {
+
+    /**
+     * checks the red black tree properties: the root is black, a red node has no red children, every path from
+     * a node to a leaf has the same number of black nodes, and parent links, the order of keys and subtree sizes
+     * are consistent
+     *
+     * @return black height of the tree
+     */
+    static <T extends Comparable<T>> int checkRedBlackTree(BstNode<T> root) {
+        if (root != null) {
+            assertThat(root.parent, is(nullValue()));
+            assertThat(RedBlackTree.colorOf(root), is(RedBlackTree.BLACK));
+        }
+        assertThat(BinarySearchTree.isValidBst2(root), is(true));
+        return blackHeight(root);
+    }
+
+    private static <T extends Comparable<T>> int blackHeight(BstNode<T> x) {
+        if (x == null) {
+            return 1;
+        }
+        for (BstNode<T> child : Arrays.asList(x.left, x.right)) {
+            if (child != null) {
+                assertThat(child.parent == x, is(true));
+                if (RedBlackTree.colorOf(x) == RedBlackTree.RED) {
+                    assertThat(RedBlackTree.colorOf(child), is(RedBlackTree.BLACK));
+                }
+            }
+        }
+        assertThat(((RbtNode) x).size, is(1 + RedBlackTree.sizeOf(x.left) + RedBlackTree.sizeOf(x.right)));
+        int left = blackHeight(x.left);
+        assertThat(blackHeight(x.right), is(left));
+        return left + (RedBlackTree.colorOf(x) == RedBlackTree.BLACK ? 1 : 0);
+    }
+}